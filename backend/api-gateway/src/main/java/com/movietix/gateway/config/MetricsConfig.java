@@ -0,0 +1,39 @@
+package com.movietix.gateway.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Publishes the gateway's request timers as percentile histograms with bounded
+ * buckets: http.server.requests for the whole exchange and spring.cloud.gateway.requests
+ * per route. gateway.authentication is set up the same way in AuthenticationFilter.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> LATENCY_METERS = Set.of("http.server.requests", "spring.cloud.gateway.requests");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !LATENCY_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
\ No newline at end of file
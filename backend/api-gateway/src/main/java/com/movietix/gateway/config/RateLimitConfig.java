@@ -0,0 +1,21 @@
+package com.movietix.gateway.config;
+
+import com.movietix.gateway.service.InMemoryRateLimitBackend;
+import com.movietix.gateway.service.RateLimitBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    // Per-instance buckets unless a shared backend is declared elsewhere
+    @Bean
+    @ConditionalOnMissingBean(RateLimitBackend.class)
+    public RateLimitBackend inMemoryRateLimitBackend(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new InMemoryRateLimitBackend(properties.getMaxBuckets(), meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.movietix.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token-bucket limits applied by RateLimitFilter. Routes without an entry under
+ * {@code routes} use {@code default-policy}. Route limits are served by config-server
+ * in deployments and read when the gateway starts.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Policy defaultPolicy = new Policy();
+
+    // Keyed by gateway route id
+    private Map<String, Policy> routes = new HashMap<>();
+
+    // Upper bound on tracked buckets; idle ones are dropped as soon as they are full again
+    private long maxBuckets = 1_000_000;
+
+    // Proxies in front of the gateway whose X-Forwarded-For entries are trusted for anonymous keys
+    private int trustedProxies = 0;
+
+    public Policy policyFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultPolicy);
+    }
+
+    @Data
+    public static class Policy {
+        // Tokens added per second
+        private double replenishRate = 20;
+        // Most tokens a bucket holds, i.e. the largest burst allowed after being idle
+        private int burstCapacity = 40;
+        // Tokens taken by each request
+        private int requestedTokens = 1;
+    }
+}
\ No newline at end of file
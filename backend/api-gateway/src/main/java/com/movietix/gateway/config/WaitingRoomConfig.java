@@ -0,0 +1,9 @@
+package com.movietix.gateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WaitingRoomProperties.class)
+public class WaitingRoomConfig {
+}
\ No newline at end of file
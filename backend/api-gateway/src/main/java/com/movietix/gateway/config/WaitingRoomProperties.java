@@ -0,0 +1,37 @@
+package com.movietix.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Waiting rooms in front of the booking routes. Showtimes listed here get a room when
+ * the gateway starts; more can be flagged at runtime through /api/admin/waiting-room.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.waiting-room")
+public class WaitingRoomProperties {
+
+    // Signs queue tickets and admission passes; every gateway instance needs the same one
+    private String secret;
+
+    private Set<Long> showtimes = new HashSet<>();
+
+    // Queue positions let through per second and room, unless set when the room is opened
+    private double admissionRate = 5;
+
+    // Arrivals let straight through while a room has nobody waiting
+    private int admissionBurst = 10;
+
+    // How long a queue ticket keeps its place
+    private Duration ticketTtl = Duration.ofHours(2);
+
+    // How long an admitted user may create holds and bookings before queueing again
+    private Duration passTtl = Duration.ofMinutes(10);
+
+    // Per room bound on remembered users, so that joining again keeps the same place
+    private long maxQueuedUsers = 1_000_000;
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.movietix.gateway.controller;
+
+import com.movietix.gateway.dto.WaitingRoomSummary;
+import com.movietix.gateway.service.JwtService;
+import com.movietix.gateway.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Flags showtimes for a waiting room on this gateway instance
+@RestController
+@RequestMapping("/api/admin/waiting-room/showtimes")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminWaitingRoomController {
+
+    private static final String ADMIN_ROLE = "ROLE_ADMIN";
+
+    private final WaitingRoomService waitingRoomService;
+    private final JwtService jwtService;
+
+    @GetMapping
+    public ResponseEntity<List<WaitingRoomSummary>> getRooms(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (!isAdmin(authorization)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(waitingRoomService.summaries());
+    }
+
+    // Opens the room, or changes the admission rate of an open one without losing its queue
+    @PutMapping("/{showtimeId}")
+    public ResponseEntity<WaitingRoomSummary> openRoom(
+            @PathVariable("showtimeId") Long showtimeId,
+            @RequestParam(value = "admissionRate", required = false) Double admissionRate,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (!isAdmin(authorization)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("Request to open waiting room for showtime: {}", showtimeId);
+        try {
+            return ResponseEntity.ok(waitingRoomService.open(showtimeId, admissionRate));
+        } catch (IllegalArgumentException e) {
+            log.error("Error opening waiting room: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/{showtimeId}")
+    public ResponseEntity<Void> closeRoom(
+            @PathVariable("showtimeId") Long showtimeId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (!isAdmin(authorization)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("Request to close waiting room for showtime: {}", showtimeId);
+        return waitingRoomService.close(showtimeId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    private boolean isAdmin(String authorization) {
+        return WaitingRoomController.token(jwtService, authorization)
+                .map(token -> ADMIN_ROLE.equals(token.role()))
+                .orElse(false);
+    }
+}
\ No newline at end of file
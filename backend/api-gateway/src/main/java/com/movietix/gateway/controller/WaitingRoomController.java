@@ -0,0 +1,84 @@
+package com.movietix.gateway.controller;
+
+import com.movietix.gateway.dto.WaitingRoomStatus;
+import com.movietix.gateway.service.JwtService;
+import com.movietix.gateway.service.VerifiedToken;
+import com.movietix.gateway.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+/**
+ * Served by the gateway itself rather than routed, so polling a waiting room never
+ * reaches a backend service. Routes' filters do not apply here; the bearer token is
+ * checked with the gateway's JwtService directly.
+ */
+@RestController
+@RequestMapping("/api/waiting-room")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomController {
+
+    static final String TICKET_HEADER = "X-Queue-Ticket";
+
+    private final WaitingRoomService waitingRoomService;
+    private final JwtService jwtService;
+
+    // Joining again returns the user's existing place
+    @PostMapping("/showtimes/{showtimeId}/tickets")
+    public ResponseEntity<WaitingRoomStatus> join(
+            @PathVariable("showtimeId") Long showtimeId,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Long userId = userId(authorization).orElse(null);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return waitingRoomService.join(showtimeId, userId)
+                .map(WaitingRoomController::withPollInterval)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<WaitingRoomStatus> status(
+            @RequestHeader(value = TICKET_HEADER, required = false) String ticket,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        Long userId = userId(authorization).orElse(null);
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (ticket == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return withPollInterval(waitingRoomService.status(ticket, userId));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected queue ticket of user {}: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private Optional<Long> userId(String authorization) {
+        return token(jwtService, authorization).map(VerifiedToken::userId);
+    }
+
+    static Optional<VerifiedToken> token(JwtService jwtService, String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return Optional.empty();
+        }
+        return jwtService.verify(authorization.substring(7));
+    }
+
+    // Retry-After tells clients when polling is worth it again
+    private static ResponseEntity<WaitingRoomStatus> withPollInterval(WaitingRoomStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(HttpHeaders.CACHE_CONTROL, "no-store");
+        if (!status.admitted()) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(status.pollAfterSeconds()));
+        }
+        return response.body(status);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.movietix.gateway.dto;
+
+import java.time.Instant;
+
+/**
+ * A user's place in a waiting room. {@code position} counts the users still ahead;
+ * once admitted, {@code pass} is sent as X-Waiting-Room-Pass on hold and booking
+ * requests for the showtime. Null pass on an admitted status means the room is closed.
+ */
+public record WaitingRoomStatus(long showtimeId, String ticket, boolean admitted, long position,
+                                long estimatedWaitSeconds, long pollAfterSeconds, String pass,
+                                Instant passExpiresAt) {
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.movietix.gateway.dto;
+
+// Admin view of one open waiting room
+public record WaitingRoomSummary(long showtimeId, double admissionRate, long joined, long admitted, long waiting) {
+}
\ No newline at end of file
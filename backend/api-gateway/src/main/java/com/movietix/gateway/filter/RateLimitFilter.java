@@ -0,0 +1,119 @@
+package com.movietix.gateway.filter;
+
+import com.movietix.gateway.config.RateLimitProperties;
+import com.movietix.gateway.service.RateLimitBackend;
+import com.movietix.gateway.service.RateLimitDecision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route token buckets. Listed after AuthenticationFilter, requests are keyed by
+ * the verified user id; on anonymous routes by client address. Limits come from
+ * {@link RateLimitProperties} by route id. Rejected requests get 429 with Retry-After.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+
+    @Autowired
+    private RateLimitBackend rateLimitBackend;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Keyed by route id and outcome; registered on first use
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (!properties.isEnabled() || route == null) {
+                return chain.filter(exchange);
+            }
+            String key = key(exchange);
+            if (key == null) {
+                return chain.filter(exchange);
+            }
+
+            RateLimitProperties.Policy policy = properties.policyFor(route.getId());
+            return rateLimitBackend.tryAcquire(route.getId() + '|' + key, policy)
+                    .flatMap(decision -> {
+                        ServerHttpResponse response = exchange.getResponse();
+                        HttpHeaders headers = response.getHeaders();
+                        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+                        headers.set(BURST_CAPACITY_HEADER, String.valueOf(policy.getBurstCapacity()));
+                        headers.set(REPLENISH_RATE_HEADER, BigDecimal.valueOf(policy.getReplenishRate()).stripTrailingZeros().toPlainString());
+                        if (decision.allowed()) {
+                            counter(route.getId(), "allowed").increment();
+                            return chain.filter(exchange);
+                        }
+                        counter(route.getId(), "rejected").increment();
+                        log.debug("Rate limited {} on route {}", key, route.getId());
+                        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(decision)));
+                        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                        return response.setComplete();
+                    });
+        };
+    }
+
+    // "user:<id>" once authenticated, otherwise "ip:<address>"; null if neither is known
+    private String key(ServerWebExchange exchange) {
+        Long userId = exchange.getAttribute(AuthenticationFilter.USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress address = properties.getTrustedProxies() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.getTrustedProxies()).resolve(exchange)
+                : exchange.getRequest().getRemoteAddress();
+        if (address == null) {
+            return null;
+        }
+        return "ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+    }
+
+    private static long retryAfterSeconds(RateLimitDecision decision) {
+        return Math.max(1, (decision.retryAfterNanos() + 999_999_999L) / 1_000_000_000L);
+    }
+
+    private Counter counter(String routeId, String outcome) {
+        return counters.computeIfAbsent(routeId + '|' + outcome, k -> Counter.builder("gateway.rate.limit")
+                .description("Requests checked by RateLimitFilter")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    public static class Config {
+        // Limits are configured under gateway.rate-limit by route id
+    }
+}
\ No newline at end of file
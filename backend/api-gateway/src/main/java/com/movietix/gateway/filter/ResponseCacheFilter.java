@@ -0,0 +1,201 @@
+package com.movietix.gateway.filter;
+
+import com.movietix.gateway.service.CachedResponse;
+import com.movietix.gateway.service.ResponseCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Serves GETs of a route from {@link ResponseCacheService}. Listed after
+ * AuthenticationFilter so only authenticated requests see cached content. Fresh
+ * entries are answered directly, stale ones are answered and refreshed in the
+ * background, and misses are marked so {@link ResponseCacheWriteFilter} stores the
+ * backend's response. Identical misses arriving while one is in flight wait for it
+ * instead of going to the backend. Successful writes through the route purge it.
+ */
+@Component
+@Slf4j
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    public static final String CACHE_REQUEST_ATTR = ResponseCacheFilter.class.getName() + ".cacheRequest";
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Counter hits;
+    private Counter staleHits;
+    private Counter misses;
+    private Counter coalesced;
+
+    public ResponseCacheFilter() {
+        super(Config.class);
+    }
+
+    @PostConstruct
+    void registerCounters() {
+        hits = lookupCounter("hit");
+        staleHits = lookupCounter("stale");
+        misses = lookupCounter("miss");
+        coalesced = lookupCounter("coalesced");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> excluded = config.getExclude().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            if (route == null) {
+                return chain.filter(exchange);
+            }
+            if (request.getMethod() == HttpMethod.HEAD || request.getMethod() == HttpMethod.OPTIONS) {
+                return chain.filter(exchange);
+            }
+            if (request.getMethod() != HttpMethod.GET) {
+                // Writes through a cached route make its entries suspect once they succeed
+                return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is2xxSuccessful()) {
+                        responseCacheService.purgeRoutes(Set.of(route.getId()));
+                    }
+                }));
+            }
+            if (excluded.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()))) {
+                return chain.filter(exchange);
+            }
+
+            String key = responseCacheService.key(route.getId(), request);
+            long now = System.nanoTime();
+            CachedResponse cached = responseCacheService.get(key);
+            if (cached != null && cached.isUsable(now)) {
+                if (cached.isFresh(now)) {
+                    hits.increment();
+                    return serve(exchange, cached, "HIT", now);
+                }
+                staleHits.increment();
+                responseCacheService.revalidate(key, cached, route.getUri(), request, config.getTtl(),
+                        config.getStaleWhileRevalidate());
+                return serve(exchange, cached, "STALE", now);
+            }
+
+            ResponseCacheService.Fetch fetch = responseCacheService.startFetch(key);
+            if (!fetch.leader()) {
+                coalesced.increment();
+                // Falls through to the backend when the leader's response was not cacheable
+                return fetch.result()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(response -> response.isPresent()
+                                ? serve(exchange, response.get(), "COALESCED", System.nanoTime())
+                                : chain.filter(exchange));
+            }
+
+            misses.increment();
+            exchange.getAttributes().put(CACHE_REQUEST_ATTR,
+                    new CacheRequest(key, route.getId(), config.getTtl(), config.getStaleWhileRevalidate(), fetch));
+            return chain.filter(exchange);
+        };
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String cacheStatus, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setETag(cached.etag());
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds(now)));
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+            headers.setCacheControl("no-cache");
+        }
+
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.IF_NONE_MATCH);
+        if (ResponseCacheService.matches(ifNoneMatch, cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("gateway.response.cache")
+                .description("Cacheable gateway requests by cache lookup result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Left on the exchange for a miss; ResponseCacheWriteFilter stores the backend's response under it
+    // and finishes the fetch, since the body is only written after this filter's chain has completed
+    public record CacheRequest(String key, String routeId, Duration ttl, Duration staleWhileRevalidate,
+                               ResponseCacheService.Fetch fetch) {
+    }
+
+    public static class Config {
+        // How long an entry is served without asking the backend
+        private Duration ttl = Duration.ofMinutes(1);
+        // How long after that it may still be served while a background request refreshes it
+        private Duration staleWhileRevalidate = Duration.ZERO;
+        // Path patterns under the route that are never cached
+        private List<String> exclude = new ArrayList<>();
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getStaleWhileRevalidate() {
+            return staleWhileRevalidate;
+        }
+
+        public void setStaleWhileRevalidate(Duration staleWhileRevalidate) {
+            this.staleWhileRevalidate = staleWhileRevalidate;
+        }
+
+        public List<String> getExclude() {
+            return exclude;
+        }
+
+        public void setExclude(List<String> exclude) {
+            this.exclude = exclude;
+        }
+    }
+}
\ No newline at end of file
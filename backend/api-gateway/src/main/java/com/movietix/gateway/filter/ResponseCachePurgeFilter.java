@@ -0,0 +1,59 @@
+package com.movietix.gateway.filter;
+
+import com.movietix.gateway.service.ResponseCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Put on admin routes: a successful write drops the cached responses of the routes it affects
+@Component
+@Slf4j
+public class ResponseCachePurgeFilter extends AbstractGatewayFilterFactory<ResponseCachePurgeFilter.Config> {
+
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    public ResponseCachePurgeFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Set<String> routes = Set.copyOf(config.getRoutes());
+        return (exchange, chain) -> {
+            HttpMethod method = exchange.getRequest().getMethod();
+            if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                if (status != null && status.is2xxSuccessful()) {
+                    log.debug("{} {} succeeded; purging cached routes {}", method, exchange.getRequest().getPath(), routes);
+                    responseCacheService.purgeRoutes(routes);
+                }
+            }));
+        };
+    }
+
+    public static class Config {
+        // Ids of the routes whose cached responses the write invalidates
+        private List<String> routes = new ArrayList<>();
+
+        public List<String> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(List<String> routes) {
+            this.routes = routes;
+        }
+    }
+}
\ No newline at end of file
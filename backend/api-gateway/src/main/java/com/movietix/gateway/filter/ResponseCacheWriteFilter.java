@@ -0,0 +1,99 @@
+package com.movietix.gateway.filter;
+
+import com.movietix.gateway.service.CachedResponse;
+import com.movietix.gateway.service.ResponseCacheService;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores the backend's response for requests that {@link ResponseCacheFilter} marked
+ * as a cache miss, and ends the miss once the body has been written. Has to wrap the
+ * response ahead of NettyWriteResponseFilter, which runs before any route filter, so it
+ * is a global filter keyed off the exchange attribute.
+ */
+@Component
+public class ResponseCacheWriteFilter implements GlobalFilter, Ordered {
+
+    private final ResponseCacheService responseCacheService;
+
+    public ResponseCacheWriteFilter(ResponseCacheService responseCacheService) {
+        this.responseCacheService = responseCacheService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = new CachingResponse(exchange);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    // Releases requests coalesced onto this one if nothing was stored for them
+                    ResponseCacheFilter.CacheRequest cacheRequest = exchange.getAttribute(ResponseCacheFilter.CACHE_REQUEST_ATTR);
+                    if (cacheRequest != null) {
+                        responseCacheService.finishFetch(cacheRequest.key(), cacheRequest.fetch());
+                    }
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+
+        CachingResponse(ServerWebExchange exchange) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            ResponseCacheFilter.CacheRequest cacheRequest = exchange.getAttribute(ResponseCacheFilter.CACHE_REQUEST_ATTR);
+            if (cacheRequest == null || !responseCacheService.isCacheable(getStatusCode(), getHeaders(), 0)) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(body).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                if (!responseCacheService.isCacheable(getStatusCode(), getHeaders(), bytes.length)) {
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                }
+
+                CachedResponse stored = responseCacheService.store(cacheRequest.key(), cacheRequest.routeId(),
+                        getHeaders(), bytes, cacheRequest.ttl(), cacheRequest.staleWhileRevalidate());
+                HttpHeaders headers = getHeaders();
+                headers.setETag(stored.etag());
+                headers.set(ResponseCacheFilter.CACHE_STATUS_HEADER, "MISS");
+                if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                    headers.setCacheControl("no-cache");
+                }
+                if (ResponseCacheService.matches(exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.IF_NONE_MATCH),
+                        stored.etag())) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                    return setComplete();
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.movietix.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops any X-User-* headers sent by the client, so the only identity a service
+ * sees is the one AuthenticationFilter sets after verifying the token. Meant as a
+ * default filter; it runs first on every route, ahead of AuthenticationFilter.
+ */
+@Component
+public class StripIdentityHeadersFilter extends AbstractGatewayFilterFactory<StripIdentityHeadersFilter.Config> {
+
+    public StripIdentityHeadersFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> chain.filter(exchange.mutate()
+                .request(r -> r.headers(headers -> AuthenticationFilter.IDENTITY_HEADERS.forEach(headers::remove)))
+                .build()), Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    public static class Config {
+        // The stripped headers are the ones AuthenticationFilter sets
+    }
+}
\ No newline at end of file
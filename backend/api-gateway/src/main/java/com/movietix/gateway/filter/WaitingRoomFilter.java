@@ -0,0 +1,109 @@
+package com.movietix.gateway.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.gateway.service.WaitingRoomService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Holds back hold and booking requests for showtimes with an open waiting room
+ * unless they carry the user's admission pass. The showtime is read from the JSON
+ * body, which is buffered only while some room is open. Listed after
+ * AuthenticationFilter, whose verified user id the pass must match.
+ */
+@Component
+@Slf4j
+public class WaitingRoomFilter extends AbstractGatewayFilterFactory<WaitingRoomFilter.Config> {
+
+    public static final String PASS_HEADER = "X-Waiting-Room-Pass";
+
+    // Where a held-back client can queue for the showtime
+    private static final String JOIN_HEADER = "X-Waiting-Room";
+
+    // Matched like the Path= route predicate: on the decoded path, without matrix parameters and
+    // with or without a trailing slash, so other spellings of these paths cannot slip past the room
+    private static final List<PathPattern> GATED_PATHS = Stream.of("/api/bookings", "/api/bookings/",
+                    "/api/bookings/holds", "/api/bookings/holds/")
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public WaitingRoomFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (!waitingRoomService.hasOpenRooms() || request.getMethod() != HttpMethod.POST
+                    || !isGated(request.getPath().pathWithinApplication())) {
+                return chain.filter(exchange);
+            }
+
+            return ServerWebExchangeUtils.cacheRequestBodyAndRequest(exchange, cachedRequest -> {
+                Long showtimeId = showtimeId(exchange.getAttribute(ServerWebExchangeUtils.CACHED_REQUEST_BODY_ATTR));
+                Long userId = exchange.getAttribute(AuthenticationFilter.USER_ID_ATTR);
+                // Requests without a readable showtime are left to booking-service to reject
+                if (showtimeId == null
+                        || waitingRoomService.admits(showtimeId, userId, request.getHeaders().getFirst(PASS_HEADER))) {
+                    return chain.filter(exchange.mutate().request(cachedRequest).build());
+                }
+                log.debug("Held back {} for showtime {} without an admission pass", request.getPath(), showtimeId);
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.FORBIDDEN);
+                response.getHeaders().set(JOIN_HEADER, "/api/waiting-room/showtimes/" + showtimeId + "/tickets");
+                return response.setComplete();
+            });
+        };
+    }
+
+    private static boolean isGated(PathContainer path) {
+        return GATED_PATHS.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private Long showtimeId(DataBuffer body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            // toString reads without consuming, so the cached body is still replayed in full
+            JsonNode showtimeId = objectMapper.readTree(body.toString(StandardCharsets.UTF_8)).path("showtimeId");
+            if (showtimeId.isTextual()) {
+                // booking-service also accepts the id as a string, so this must not be a way around the room
+                return Long.valueOf(showtimeId.asText().trim());
+            }
+            return showtimeId.canConvertToLong() ? showtimeId.asLong() : null;
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static class Config {
+        // Rooms are opened per showtime through WaitingRoomService
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.movietix.gateway.service;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// A 200 response held by the gateway, fresh until freshUntil and servable stale until staleUntil (System.nanoTime)
+public record CachedResponse(String routeId, HttpHeaders headers, byte[] body, String etag,
+                             long storedAt, long freshUntil, long staleUntil, AtomicBoolean revalidating) {
+
+    public boolean isFresh(long now) {
+        return now - freshUntil < 0;
+    }
+
+    public boolean isUsable(long now) {
+        return now - staleUntil < 0;
+    }
+
+    public long ageSeconds(long now) {
+        return Math.max(0, (now - storedAt) / 1_000_000_000L);
+    }
+
+    // Bytes counted against the cache's size bound
+    public int weight() {
+        return body.length + 256;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.movietix.gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.movietix.gateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets kept in this JVM, implemented as GCRA: each bucket is a single
+ * "theoretical arrival time" advanced with compare-and-set, so acquiring takes no
+ * lock and buckets for different keys never contend. Buckets live in a Caffeine map
+ * and expire once they would be full again, so only recently active keys use memory.
+ */
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryRateLimitBackend(long maxBuckets, MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(new UntilFull())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rate-limit-buckets");
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Policy policy) {
+        return Mono.just(acquire(key, policy));
+    }
+
+    RateLimitDecision acquire(String key, RateLimitProperties.Policy policy) {
+        long interval = (long) (1_000_000_000L / policy.getReplenishRate());
+        long window = interval * policy.getBurstCapacity();
+        long cost = interval * policy.getRequestedTokens();
+        Bucket bucket = buckets.get(key, k -> new Bucket(window));
+
+        while (true) {
+            long now = System.nanoTime();
+            long tat = bucket.arrival.get();
+            long newTat = (tat - now > 0 ? tat : now) + cost;
+            long allowAt = newTat - window;
+            if (allowAt - now > 0) {
+                return new RateLimitDecision(false, 0, allowAt - now);
+            }
+            if (bucket.arrival.compareAndSet(tat, newTat)) {
+                bucket.window = window;
+                return new RateLimitDecision(true, (now - allowAt) / interval, 0);
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        // A bucket is full whenever its arrival time is not ahead of now
+        private final AtomicLong arrival = new AtomicLong(System.nanoTime());
+        // Time for an empty bucket to refill; how long it may sit idle before it is as good as new
+        private volatile long window;
+
+        private Bucket(long window) {
+            this.window = window;
+        }
+    }
+
+    private static final class UntilFull implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.window;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.window;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.window;
+        }
+    }
+}
\ No newline at end of file
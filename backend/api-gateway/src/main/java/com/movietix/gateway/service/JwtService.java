@@ -1,69 +1,129 @@
 package com.movietix.gateway.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
+/**
+ * Verifies gateway JWTs. The parser and signing key are built once, and verified
+ * claims are cached by SHA-256 of the token until the token's own expiry, so a
+ * token is signature-checked once rather than on every request.
+ */
 @Service
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secret:myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough}")
-    private String secret;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public JwtService(@Value("${jwt.secret:myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough}") String secret,
+                      @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                      @Value("${jwt.cache.max-ttl:15m}") Duration maxTtl,
+                      MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Returns the token's claims if its signature is valid and it carries an expiry that
+     * has not passed.
+     * One parse per distinct token; later calls are served from the cache.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        Instant now = Instant.now();
+        if (cached != null) {
+            return cached.isExpired(now) ? Optional.empty() : Optional.of(cached);
+        }
+
+        VerifiedToken verified;
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return !isTokenExpired(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            // A token without an expiry would stay valid forever, and cached for the full max-ttl
+            if (expiration == null) {
+                log.error("Token validation failed: token has no expiry");
+                return Optional.empty();
+            }
+            verified = new VerifiedToken(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration.toInstant());
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
-    }
 
-    public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        if (verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(key, verified);
+        return Optional.of(verified);
     }
 
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
-    public Long extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("userId", Long.class));
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    // Cached claims live until the token expires, but never longer than maxTtl
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
 
-    public <T> T extractClaim(String token, java.util.function.Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
+        private final long maxTtlNanos;
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
+        private UntilTokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.movietix.gateway.service;
+
+import java.time.Instant;
+
+// Signed claims of a queue ticket or of the admission pass it is exchanged for
+public record QueueToken(Type type, long showtimeId, long userId, long generation, long position,
+                         Instant expiresAt) {
+
+    public enum Type {
+        TICKET, PASS
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean belongsTo(WaitingRoom room, long userId) {
+        return room.getShowtimeId() == showtimeId && room.getGeneration() == generation && this.userId == userId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.movietix.gateway.service;
+
+import com.movietix.gateway.config.RateLimitProperties;
+import reactor.core.publisher.Mono;
+
+/**
+ * Where bucket state lives. The in-memory default limits per gateway instance; a
+ * shared store (e.g. Redis) can be plugged in by declaring another RateLimitBackend
+ * bean, which replaces the default.
+ */
+public interface RateLimitBackend {
+
+    Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Policy policy);
+}
\ No newline at end of file
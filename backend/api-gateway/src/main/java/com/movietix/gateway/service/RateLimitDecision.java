@@ -0,0 +1,5 @@
+package com.movietix.gateway.service;
+
+// Outcome of one acquire; retryAfterNanos is 0 when allowed
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterNanos) {
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package com.movietix.gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shared in-memory store for GET responses of catalog routes. Entries are bounded by
+ * total body size, carry an ETag computed from the body, and stay servable for a
+ * stale-while-revalidate window after they stop being fresh; during that window one
+ * background request per entry refreshes it. Concurrent misses on one key are
+ * coalesced: the first goes to the backend, the others wait for what it stores.
+ */
+@Service
+@Slf4j
+public class ResponseCacheService {
+
+    // Not replayed from the cache: framing is recomputed and the ETag is our own
+    private static final Set<String> UNCACHED_HEADERS = headerNames(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION, HttpHeaders.DATE, HttpHeaders.ETAG);
+
+    // Conditional and framing headers of the client request are not forwarded on revalidation
+    private static final Set<String> UNFORWARDED_HEADERS = headerNames(HttpHeaders.HOST, HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONNECTION);
+
+    private static final Duration REVALIDATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Cache<String, CachedResponse> entries;
+    private final Map<String, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final int maxEntryBytes;
+    private final WebClient webClient;
+    private final WebClient loadBalancedWebClient;
+
+    public ResponseCacheService(@Value("${gateway.response-cache.maximum-size:64MB}") DataSize maximumSize,
+                                @Value("${gateway.response-cache.max-entry-size:1MB}") DataSize maxEntrySize,
+                                ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                                MeterRegistry meterRegistry) {
+        this.maxEntryBytes = (int) maxEntrySize.toBytes();
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, CachedResponse response) -> response.weight())
+                .expireAfter(new UntilStale())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "gateway-responses");
+
+        // Not Boot's instrumented builder: its http.client.requests tags clash with the gateway's own meter
+        WebClient.Builder builder = WebClient.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxEntryBytes));
+        this.webClient = builder.clone().build();
+        this.loadBalancedWebClient = builder.clone().filter(loadBalancerFunction).build();
+    }
+
+    // Route plus path plus query, with query parameters sorted so their order does not split entries
+    public String key(String routeId, ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getPath().value());
+        Map<String, List<String>> params = new TreeMap<>(request.getQueryParams());
+        char separator = '?';
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            for (String value : param.getValue()) {
+                key.append(separator).append(param.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    public boolean isCacheable(HttpStatusCode status, HttpHeaders headers, long contentLength) {
+        if (status == null || status.value() != 200 || headers.containsKey(HttpHeaders.SET_COOKIE)
+                || contentLength > maxEntryBytes) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    public CachedResponse store(String key, String routeId, HttpHeaders responseHeaders, byte[] body,
+                                Duration ttl, Duration staleWhileRevalidate) {
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.forEach((name, values) -> {
+            // CORS and rate limit headers belong to the request that stored the entry; the gateway adds them per request
+            if (!UNCACHED_HEADERS.contains(name) && !name.regionMatches(true, 0, "Access-Control-", 0, 15)
+                    && !name.regionMatches(true, 0, "X-RateLimit-", 0, 12)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        long now = System.nanoTime();
+        CachedResponse response = new CachedResponse(routeId, HttpHeaders.readOnlyHttpHeaders(headers), body, etag(body),
+                now, now + ttl.toNanos(), now + ttl.plus(staleWhileRevalidate).toNanos(), new AtomicBoolean());
+        entries.put(key, response);
+        Sinks.One<CachedResponse> fetch = inFlight.remove(key);
+        if (fetch != null) {
+            fetch.tryEmitValue(response);
+        }
+        return response;
+    }
+
+    /**
+     * Registers a backend fetch for a missed key. The first caller leads and must call
+     * {@link #finishFetch} once its exchange completes; later callers get the leader's
+     * stored response, or an empty result if it turned out not to be cacheable.
+     */
+    public Fetch startFetch(String key) {
+        Sinks.One<CachedResponse> fetch = Sinks.one();
+        Sinks.One<CachedResponse> running = inFlight.putIfAbsent(key, fetch);
+        return running == null ? new Fetch(true, fetch) : new Fetch(false, running);
+    }
+
+    // Releases waiting followers when the leader's response was not stored
+    public void finishFetch(String key, Fetch fetch) {
+        if (inFlight.remove(key, fetch.sink())) {
+            fetch.sink().tryEmitEmpty();
+        }
+    }
+
+    public void purgeRoutes(Set<String> routeIds) {
+        int before = entries.asMap().size();
+        entries.asMap().values().removeIf(response -> routeIds.contains(response.routeId()));
+        log.debug("Purged {} cached responses for routes {}", before - entries.asMap().size(), routeIds);
+    }
+
+    /**
+     * Fetches a stale entry again in the background, unless another request is already
+     * doing so. Goes straight to the route's backend with the client's headers; the
+     * caller has already been served the stale copy.
+     */
+    public void revalidate(String key, CachedResponse stale, URI routeUri, ServerHttpRequest request,
+                           Duration ttl, Duration staleWhileRevalidate) {
+        if (!stale.revalidating().compareAndSet(false, true)) {
+            return;
+        }
+        boolean loadBalanced = "lb".equals(routeUri.getScheme());
+        URI target = UriComponentsBuilder.fromUri(routeUri)
+                .scheme(loadBalanced ? "http" : routeUri.getScheme())
+                .replacePath(request.getURI().getRawPath())
+                .replaceQuery(request.getURI().getRawQuery())
+                .build(true)
+                .toUri();
+
+        (loadBalanced ? loadBalancedWebClient : webClient).get()
+                .uri(target)
+                .headers(headers -> request.getHeaders().forEach((name, values) -> {
+                    if (!UNFORWARDED_HEADERS.contains(name)) {
+                        headers.put(name, values);
+                    }
+                }))
+                .retrieve()
+                .toEntity(byte[].class)
+                .timeout(REVALIDATION_TIMEOUT)
+                .doFinally(signal -> stale.revalidating().set(false))
+                .subscribe(response -> {
+                    byte[] body = response.getBody() != null ? response.getBody() : new byte[0];
+                    if (isCacheable(response.getStatusCode(), response.getHeaders(), body.length)) {
+                        store(key, stale.routeId(), response.getHeaders(), body, ttl, staleWhileRevalidate);
+                    }
+                }, e -> log.warn("Revalidation of {} failed: {}", key, e.getMessage()));
+    }
+
+    public record Fetch(boolean leader, Sinks.One<CachedResponse> sink) {
+
+        public Mono<CachedResponse> result() {
+            return sink.asMono();
+        }
+    }
+
+    // True when any entity tag of an If-None-Match header matches; weak tags compare by value
+    public static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Set<String> headerNames(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(List.of(names));
+        return set;
+    }
+
+    // Entries are dropped once they are no longer servable even as stale
+    private static final class UntilStale implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return Math.max(0, response.staleUntil() - System.nanoTime());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
\ No newline at end of file
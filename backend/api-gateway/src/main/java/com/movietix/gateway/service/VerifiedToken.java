@@ -0,0 +1,11 @@
+package com.movietix.gateway.service;
+
+import java.time.Instant;
+
+// Claims of a token whose signature and expiry have already been checked
+public record VerifiedToken(Long userId, String email, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.movietix.gateway.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue of one flagged showtime. Arrivals take consecutive positions; an admission
+ * frontier moves forward at the admission rate, and every position at or behind it
+ * is let through. While nobody waits the frontier stays a small burst ahead of the
+ * last position, so a spike after a quiet period is admitted at the rate as well.
+ */
+public class WaitingRoom {
+
+    private final long showtimeId;
+    // Distinguishes this room's tickets from those of an earlier room for the same showtime
+    private final long generation;
+    private final int admissionBurst;
+    private final AtomicLong issued = new AtomicLong();
+    // User id to position, so that joining again does not cost the user their place
+    private final Cache<Long, Long> positions;
+
+    private volatile double admissionRate;
+
+    // Guarded by this; advanced lazily whenever the room is read
+    private double admitted;
+    private long advancedAt;
+
+    WaitingRoom(long showtimeId, long generation, double admissionRate, int admissionBurst,
+                long maxQueuedUsers, Duration ticketTtl) {
+        this.showtimeId = showtimeId;
+        this.generation = generation;
+        this.admissionRate = admissionRate;
+        this.admissionBurst = admissionBurst;
+        this.positions = Caffeine.newBuilder()
+                .maximumSize(maxQueuedUsers)
+                .expireAfterWrite(ticketTtl)
+                .build();
+        this.admitted = admissionBurst;
+        this.advancedAt = System.nanoTime();
+    }
+
+    public long getShowtimeId() {
+        return showtimeId;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public double getAdmissionRate() {
+        return admissionRate;
+    }
+
+    void setAdmissionRate(double admissionRate) {
+        // Settle the frontier at the old rate first
+        admittedThrough(System.nanoTime());
+        this.admissionRate = admissionRate;
+    }
+
+    public long getIssued() {
+        return issued.get();
+    }
+
+    long join(long userId) {
+        return positions.get(userId, id -> issued.incrementAndGet());
+    }
+
+    // Highest position admitted at the given System.nanoTime
+    synchronized long admittedThrough(long now) {
+        if (now - advancedAt > 0) {
+            double added = (now - advancedAt) / 1e9 * admissionRate;
+            admitted = Math.min(admitted + added, issued.get() + admissionBurst);
+            advancedAt = now;
+        }
+        return (long) admitted;
+    }
+
+    // Positions still ahead of the given one, zero once it is admitted
+    long ahead(long position, long now) {
+        return Math.max(0, position - admittedThrough(now));
+    }
+
+    long estimatedWaitSeconds(long ahead) {
+        return (long) Math.ceil(ahead / admissionRate);
+    }
+}
\ No newline at end of file
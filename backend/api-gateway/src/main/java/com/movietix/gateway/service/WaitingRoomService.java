@@ -0,0 +1,227 @@
+package com.movietix.gateway.service;
+
+import com.movietix.gateway.config.WaitingRoomProperties;
+import com.movietix.gateway.dto.WaitingRoomStatus;
+import com.movietix.gateway.dto.WaitingRoomSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for flagged showtimes. Users join a showtime's room and get a
+ * signed queue ticket holding their position; polling with the ticket reports how
+ * many are still ahead and, once admitted, returns a short-lived signed pass that
+ * WaitingRoomFilter requires on hold and booking requests. Tickets and passes carry
+ * their own claims, so checking them needs no lookup beyond the room's frontier.
+ * Rooms live in this gateway's memory and are lost, with their queues, on restart.
+ */
+@Service
+@Slf4j
+public class WaitingRoomService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final long MAX_POLL_INTERVAL_SECONDS = 30;
+
+    private final WaitingRoomProperties properties;
+    private final Map<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong(System.currentTimeMillis());
+    private final ThreadLocal<Mac> macs;
+    private final Counter joined;
+    private final Counter admitted;
+    private final Counter passed;
+    private final Counter blocked;
+
+    public WaitingRoomService(WaitingRoomProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("gateway.waiting-room.secret must be set");
+        }
+        SecretKeySpec key = new SecretKeySpec(properties.getSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        // Mac instances are not thread-safe; one per event-loop thread
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+        this.joined = counter(meterRegistry, "joined");
+        this.admitted = counter(meterRegistry, "admitted");
+        this.passed = counter(meterRegistry, "passed");
+        this.blocked = counter(meterRegistry, "blocked");
+        properties.getShowtimes().forEach(showtimeId -> open(showtimeId, null));
+    }
+
+    // Cheap check that lets the booking routes skip reading request bodies when no room is open
+    public boolean hasOpenRooms() {
+        return !rooms.isEmpty();
+    }
+
+    public WaitingRoomSummary open(long showtimeId, Double admissionRate) {
+        double rate = admissionRate != null ? admissionRate : properties.getAdmissionRate();
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("Admission rate must be positive");
+        }
+        WaitingRoom room = rooms.computeIfAbsent(showtimeId, id -> {
+            log.info("Opening waiting room for showtime {} at {} admissions/s", id, rate);
+            return new WaitingRoom(id, generations.incrementAndGet(), rate, properties.getAdmissionBurst(),
+                    properties.getMaxQueuedUsers(), properties.getTicketTtl());
+        });
+        if (room.getAdmissionRate() != rate) {
+            log.info("Waiting room for showtime {} now admits {}/s", showtimeId, rate);
+            room.setAdmissionRate(rate);
+        }
+        return summary(room);
+    }
+
+    // Closing lets everyone through; tickets of the closed room are not valid in a later one
+    public boolean close(long showtimeId) {
+        boolean closed = rooms.remove(showtimeId) != null;
+        if (closed) {
+            log.info("Closed waiting room for showtime {}", showtimeId);
+        }
+        return closed;
+    }
+
+    public List<WaitingRoomSummary> summaries() {
+        return rooms.values().stream()
+                .sorted(Comparator.comparingLong(WaitingRoom::getShowtimeId))
+                .map(this::summary)
+                .toList();
+    }
+
+    // Empty when the showtime has no open room
+    public Optional<WaitingRoomStatus> join(long showtimeId, long userId) {
+        WaitingRoom room = rooms.get(showtimeId);
+        if (room == null) {
+            return Optional.empty();
+        }
+        long position = room.join(userId);
+        joined.increment();
+        Instant expiresAt = Instant.now().plus(properties.getTicketTtl());
+        String ticket = sign(new QueueToken(QueueToken.Type.TICKET, showtimeId, userId, room.getGeneration(),
+                position, expiresAt));
+        return Optional.of(status(room, ticket, position, userId, expiresAt));
+    }
+
+    /**
+     * Reports the ticket's place in its room. Throws IllegalArgumentException when the
+     * ticket is forged, expired, issued to another user or by a room that has since
+     * been replaced; the user then has to join again.
+     */
+    public WaitingRoomStatus status(String ticket, long userId) {
+        QueueToken token = verify(ticket)
+                .filter(t -> t.type() == QueueToken.Type.TICKET && t.userId() == userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid queue ticket"));
+        if (token.isExpired(Instant.now())) {
+            throw new IllegalArgumentException("Queue ticket expired");
+        }
+        WaitingRoom room = rooms.get(token.showtimeId());
+        if (room == null) {
+            // Room closed: bookings for the showtime are no longer gated
+            return new WaitingRoomStatus(token.showtimeId(), ticket, true, 0, 0, 0, null, null);
+        }
+        if (room.getGeneration() != token.generation()) {
+            throw new IllegalArgumentException("Queue ticket belongs to an earlier waiting room");
+        }
+        return status(room, ticket, token.position(), userId, token.expiresAt());
+    }
+
+    // True unless the showtime has an open room and the pass is not a valid one of this user for it
+    public boolean admits(long showtimeId, Long userId, String pass) {
+        WaitingRoom room = rooms.get(showtimeId);
+        if (room == null) {
+            return true;
+        }
+        boolean valid = pass != null && userId != null && verify(pass)
+                .filter(t -> t.type() == QueueToken.Type.PASS && t.belongsTo(room, userId))
+                .filter(t -> !t.isExpired(Instant.now()))
+                .isPresent();
+        (valid ? passed : blocked).increment();
+        return valid;
+    }
+
+    private WaitingRoomStatus status(WaitingRoom room, String ticket, long position, long userId,
+                                     Instant ticketExpiresAt) {
+        long ahead = room.ahead(position, System.nanoTime());
+        if (ahead > 0) {
+            long wait = room.estimatedWaitSeconds(ahead);
+            long pollAfter = Math.max(1, Math.min(MAX_POLL_INTERVAL_SECONDS, wait / 4));
+            return new WaitingRoomStatus(room.getShowtimeId(), ticket, false, ahead, wait, pollAfter, null, null);
+        }
+        // A pass never outlives the ticket it was issued for, so polling again cannot extend admission indefinitely
+        Instant passExpiresAt = Instant.now().plus(properties.getPassTtl());
+        if (passExpiresAt.isAfter(ticketExpiresAt)) {
+            passExpiresAt = ticketExpiresAt;
+        }
+        String pass = sign(new QueueToken(QueueToken.Type.PASS, room.getShowtimeId(), userId, room.getGeneration(),
+                position, passExpiresAt));
+        admitted.increment();
+        return new WaitingRoomStatus(room.getShowtimeId(), ticket, true, 0, 0, 0, pass, passExpiresAt);
+    }
+
+    private WaitingRoomSummary summary(WaitingRoom room) {
+        long issued = room.getIssued();
+        long frontier = Math.min(issued, room.admittedThrough(System.nanoTime()));
+        return new WaitingRoomSummary(room.getShowtimeId(), room.getAdmissionRate(), issued, frontier,
+                issued - frontier);
+    }
+
+    // <claims>.<HMAC-SHA256 of claims>, both base64url
+    private String sign(QueueToken token) {
+        String claims = ENCODER.encodeToString(String.join(":", token.type().name(),
+                String.valueOf(token.showtimeId()), String.valueOf(token.userId()),
+                String.valueOf(token.generation()), String.valueOf(token.position()),
+                String.valueOf(token.expiresAt().getEpochSecond())).getBytes(StandardCharsets.UTF_8));
+        return claims + '.' + ENCODER.encodeToString(mac(claims));
+    }
+
+    private Optional<QueueToken> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String claims = token.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(mac(claims), DECODER.decode(token.substring(dot + 1)))) {
+                return Optional.empty();
+            }
+            String[] parts = new String(DECODER.decode(claims), StandardCharsets.UTF_8).split(":");
+            return Optional.of(new QueueToken(QueueToken.Type.valueOf(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]),
+                    Instant.ofEpochSecond(Long.parseLong(parts[5]))));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.debug("Malformed queue token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] mac(String claims) {
+        return macs.get().doFinal(claims.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String event) {
+        return Counter.builder("gateway.waiting.room")
+                .description("Waiting room joins, admissions and gated booking requests")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.movietix.gateway.filter;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A showtime with an open waiting room must not be booked, held or have seats
+ * claimed through any gateway path without an admission pass. booking-service and
+ * showtime-service are replaced by a stub that records what reaches it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "gateway.waiting-room.showtimes[0]=42"
+})
+class WaitingRoomRoutesTest {
+
+    private static final String SECRET = "myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough";
+    private static final String FLASH_SALE = "{\"showtimeId\":42,\"numberOfSeats\":2,\"seats\":[\"A1\",\"A2\"]}";
+
+    private static final List<String> forwarded = new CopyOnWriteArrayList<>();
+    private static final HttpServer backend = startBackend();
+
+    @Autowired
+    private WebTestClient client;
+
+    @DynamicPropertySource
+    static void services(DynamicPropertyRegistry registry) {
+        String uri = "http://localhost:" + backend.getAddress().getPort();
+        registry.add("spring.cloud.discovery.client.simple.instances.booking-service[0].uri", () -> uri);
+        registry.add("spring.cloud.discovery.client.simple.instances.showtime-service[0].uri", () -> uri);
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @BeforeEach
+    void clearForwarded() {
+        forwarded.clear();
+    }
+
+    @Test
+    void bookingsAndHoldsNeedAPass() {
+        for (String path : List.of("/api/bookings", "/api/bookings/", "/api/bookings/holds", "/api/bookings/holds/",
+                "/api/bookings;v=1")) {
+            client.post().uri(path)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(FLASH_SALE)
+                    .exchange()
+                    .expectStatus().isForbidden()
+                    .expectHeader().valueEquals("X-Waiting-Room", "/api/waiting-room/showtimes/42/tickets");
+        }
+        assertThat(forwarded).isEmpty();
+    }
+
+    @Test
+    void seatsCannotBeChangedThroughOtherPaths() {
+        List<String> paths = List.of(
+                "/api/showtimes/42/seats/claim",
+                "/api/showtimes/42/seats/release",
+                "/api/showtimes/42/book-seats?seats=2",
+                "/api/showtimes/42/release-seats?seats=2",
+                "/api/internal/showtimes/42/seats/claim",
+                "/api/internal/showtimes/42/book-seats?seats=2",
+                "/showtime-service/api/internal/showtimes/42/seats/claim",
+                "/booking-service/api/bookings",
+                "/booking-service/api/bookings/holds",
+                "/API/bookings",
+                "/api/%62ookings");
+        for (String path : paths) {
+            for (HttpMethod method : List.of(HttpMethod.POST, HttpMethod.PUT)) {
+                client.method(method).uri(path)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(FLASH_SALE)
+                        .exchange()
+                        .expectStatus().isNotFound();
+            }
+        }
+        assertThat(forwarded).isEmpty();
+    }
+
+    @Test
+    void otherShowtimesAndReadsStillPassThrough() {
+        client.post().uri("/api/bookings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"showtimeId\":7,\"numberOfSeats\":2}")
+                .exchange()
+                .expectStatus().isOk();
+        client.get().uri("/api/showtimes/42/seats")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token())
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(forwarded).containsExactly("POST /api/bookings", "GET /api/showtimes/42/seats");
+    }
+
+    private static String token() {
+        return Jwts.builder()
+                .setSubject("customer@x.test")
+                .claim("userId", 5L)
+                .claim("role", "ROLE_CUSTOMER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                forwarded.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+                byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start stub backend", e);
+        }
+    }
+}
\ No newline at end of file
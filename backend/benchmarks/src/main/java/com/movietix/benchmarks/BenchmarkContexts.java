@@ -0,0 +1,29 @@
+package com.movietix.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Boots a trimmed service context on an in-memory H2 database, ignoring the services' application.yml
+public final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    public static ConfigurableApplicationContext start(Class<?> configuration, String database) {
+        return new SpringApplicationBuilder(configuration)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.config.name=benchmark",
+                        "spring.main.banner-mode=off",
+                        "spring.cloud.config.enabled=false",
+                        "spring.cloud.config.import-check.enabled=false",
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        // Measure the code, not console logging
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.movietix.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH entry point. Accepts the usual JMH command line (e.g. a benchmark regex,
+ * {@code -f 1 -wi 2 -i 5}) but writes JSON results to target/jmh-result.json
+ * unless {@code -rf}/{@code -rff} say otherwise, so runs can be compared over time.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().orElse("target/jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
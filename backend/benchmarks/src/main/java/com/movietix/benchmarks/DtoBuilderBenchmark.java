@@ -0,0 +1,89 @@
+package com.movietix.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.showtime.dto.ShowtimeDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The Lombok builders behind every response, and serializing what they build
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoBuilderBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 19, 30);
+    private final BigDecimal price = new BigDecimal("12.50");
+    private long id;
+
+    @Benchmark
+    public BookingDTO buildBookingDTO() {
+        return bookingDTO();
+    }
+
+    @Benchmark
+    public ShowtimeDTO buildShowtimeDTO() {
+        return showtimeDTO();
+    }
+
+    @Benchmark
+    public byte[] serializeBookingDTO() throws Exception {
+        return objectMapper.writeValueAsBytes(bookingDTO());
+    }
+
+    @Benchmark
+    public byte[] serializeShowtimeDTO() throws Exception {
+        return objectMapper.writeValueAsBytes(showtimeDTO());
+    }
+
+    private BookingDTO bookingDTO() {
+        return BookingDTO.builder()
+                .id(id++)
+                .userId(1L)
+                .showtimeId(2L)
+                .numberOfSeats(2)
+                .totalPrice(price)
+                .status("CONFIRMED")
+                .bookingReference("BK-0A8JD37P80W008")
+                .seats(List.of("A5", "A6"))
+                .createdAt(now)
+                .updatedAt(now)
+                .movieTitle("Interstellar")
+                .theaterName("Cinema One")
+                .showDateTime(now)
+                .ticketPrice(price)
+                .build();
+    }
+
+    private ShowtimeDTO showtimeDTO() {
+        return ShowtimeDTO.builder()
+                .id(id++)
+                .movieId(1L)
+                .movieTitle("Interstellar")
+                .theaterId(2L)
+                .theaterName("Cinema One")
+                .showDateTime(now)
+                .ticketPrice(price)
+                .availableSeats(200)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
\ No newline at end of file
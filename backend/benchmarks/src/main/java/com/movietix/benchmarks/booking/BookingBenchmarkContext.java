@@ -0,0 +1,106 @@
+package com.movietix.benchmarks.booking;
+
+import com.movietix.booking.client.SeatAssignmentDTO;
+import com.movietix.booking.client.SeatSelectionRequest;
+import com.movietix.booking.client.ShowtimeDTO;
+import com.movietix.booking.client.ShowtimeServiceClient;
+import com.movietix.booking.client.UserDTO;
+import com.movietix.booking.client.UserServiceClient;
+import com.movietix.booking.config.BookingReferenceConfig;
+import com.movietix.booking.entity.Booking;
+import com.movietix.booking.repository.BookingRepository;
+import com.movietix.booking.service.BookingService;
+import com.movietix.booking.service.IdempotencyService;
+import com.movietix.booking.service.SeatReservationService;
+import com.movietix.booking.service.ShowtimeLookupService;
+import com.movietix.outbox.entity.OutboxEvent;
+import com.movietix.outbox.repository.OutboxEventRepository;
+import com.movietix.outbox.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * booking-service's booking path on H2, with showtime-service and user-service
+ * replaced by in-memory stubs that answer instantly.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EntityScan(basePackageClasses = {Booking.class, OutboxEvent.class})
+@EnableJpaRepositories(basePackageClasses = {BookingRepository.class, OutboxEventRepository.class})
+@EnableJpaAuditing
+@Import({BookingService.class, SeatReservationService.class, ShowtimeLookupService.class,
+        OutboxService.class, IdempotencyService.class, BookingReferenceConfig.class})
+public class BookingBenchmarkContext {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public ShowtimeServiceClient showtimeServiceClient() {
+        return new StubShowtimeClient();
+    }
+
+    @Bean
+    public UserServiceClient userServiceClient() {
+        return id -> new UserDTO(id, "Benchmark User", "bench@example.com", "ROLE_CUSTOMER");
+    }
+
+    static ShowtimeDTO showtime(Long id) {
+        ShowtimeDTO showtime = new ShowtimeDTO();
+        showtime.setId(id);
+        showtime.setMovieId(id % 50);
+        showtime.setMovieTitle("Movie " + id % 50);
+        showtime.setTheaterId(id % 10);
+        showtime.setTheaterName("Theater " + id % 10);
+        showtime.setShowDateTime(LocalDateTime.of(2030, 1, 1, 19, 30).plusHours(id));
+        showtime.setTicketPrice(new BigDecimal("12.50"));
+        showtime.setAvailableSeats(Integer.MAX_VALUE);
+        return showtime;
+    }
+
+    static class StubShowtimeClient implements ShowtimeServiceClient {
+
+        @Override
+        public ShowtimeDTO getShowtime(Long id) {
+            return showtime(id);
+        }
+
+        @Override
+        public List<ShowtimeDTO> getShowtimes(Collection<Long> ids) {
+            return ids.stream().map(BookingBenchmarkContext::showtime).toList();
+        }
+
+        @Override
+        public SeatAssignmentDTO bookSeats(Long showtimeId, Integer seats) {
+            return new SeatAssignmentDTO(showtimeId, List.of());
+        }
+
+        @Override
+        public void releaseSeats(Long showtimeId, Integer seats, String releaseKey, SeatSelectionRequest labels) {
+        }
+
+        @Override
+        public SeatAssignmentDTO claimSeats(Long showtimeId, SeatSelectionRequest request) {
+            return new SeatAssignmentDTO(showtimeId, request.getSeats());
+        }
+    }
+}
\ No newline at end of file
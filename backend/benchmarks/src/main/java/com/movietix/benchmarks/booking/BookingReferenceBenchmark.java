@@ -0,0 +1,44 @@
+package com.movietix.benchmarks.booking;
+
+import com.movietix.booking.reference.BookingReferenceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Booking reference generation, against the UUID-based scheme it replaced
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingReferenceBenchmark {
+
+    private final BookingReferenceGenerator generator = new BookingReferenceGenerator(1);
+
+    @Benchmark
+    public String snowflakeReference() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String snowflakeReferenceContended() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public String uuidReference() {
+        return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
\ No newline at end of file
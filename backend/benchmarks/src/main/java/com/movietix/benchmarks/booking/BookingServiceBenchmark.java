@@ -0,0 +1,70 @@
+package com.movietix.benchmarks.booking;
+
+import com.movietix.benchmarks.BenchmarkContexts;
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.booking.dto.CreateBookingRequest;
+import com.movietix.booking.service.BookingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BookingService.createBooking and the bulk-enriched booking history (convertToDTOs)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookingServiceBenchmark {
+
+    private static final long HISTORY_USER_ID = 1L;
+    private static final long BOOKING_USER_ID = 2L;
+    private static final int HISTORY_SIZE = 50;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private long showtimeId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(BookingBenchmarkContext.class, "bookings");
+        bookingService = context.getBean(BookingService.class);
+        for (long i = 0; i < HISTORY_SIZE; i++) {
+            bookingService.createBooking(request(i), HISTORY_USER_ID);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingDTO createBooking() {
+        return bookingService.createBooking(request(showtimeId++ % 1000), BOOKING_USER_ID);
+    }
+
+    @Benchmark
+    public List<BookingDTO> getMyBookings() {
+        return bookingService.getMyBookings(HISTORY_USER_ID);
+    }
+
+    private static CreateBookingRequest request(long showtimeId) {
+        return CreateBookingRequest.builder()
+                .showtimeId(showtimeId)
+                .numberOfSeats(2)
+                .build();
+    }
+}
\ No newline at end of file
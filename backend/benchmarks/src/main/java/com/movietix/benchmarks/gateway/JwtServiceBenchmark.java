@@ -0,0 +1,75 @@
+package com.movietix.benchmarks.gateway;
+
+import com.movietix.gateway.service.JwtService;
+import com.movietix.gateway.service.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Gateway token verification: cache hit, and a stream of distinct tokens that mostly miss
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough";
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtService cachingService;
+    private JwtService missingService;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JwtService(SECRET, 100_000, Duration.ofMinutes(15), new SimpleMeterRegistry());
+        // Far smaller than the token set, so nearly every verify parses and checks the signature
+        missingService = new JwtService(SECRET, 16, Duration.ofMinutes(15), new SimpleMeterRegistry());
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = token(i);
+        }
+        token = tokens[0];
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return cachingService.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyUncached() {
+        return missingService.verify(tokens[next++ & (DISTINCT_TOKENS - 1)]);
+    }
+
+    private static String token(long userId) {
+        return Jwts.builder()
+                .setSubject("user" + userId + "@example.com")
+                .claim("userId", userId)
+                .claim("role", "ROLE_CUSTOMER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.movietix.benchmarks.showtime;
+
+import com.movietix.outbox.entity.OutboxEvent;
+import com.movietix.outbox.event.InProcessEventBus;
+import com.movietix.outbox.repository.OutboxEventRepository;
+import com.movietix.outbox.service.OutboxService;
+import com.movietix.showtime.client.MovieDTO;
+import com.movietix.showtime.client.MovieServiceClient;
+import com.movietix.showtime.client.TheaterDTO;
+import com.movietix.showtime.client.TheaterServiceClient;
+import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.service.CatalogLookupService;
+import com.movietix.showtime.service.ReadCoalescer;
+import com.movietix.showtime.service.SeatAvailabilityFeed;
+import com.movietix.showtime.service.SeatInventoryService;
+import com.movietix.showtime.service.SeatPersistenceWriter;
+import com.movietix.showtime.service.SeatReleaseLog;
+import com.movietix.showtime.service.ShowtimeCardService;
+import com.movietix.showtime.service.ShowtimeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * showtime-service's read path on H2, with movie-service and theater-service
+ * replaced by in-memory stubs that answer instantly.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EntityScan(basePackageClasses = {Showtime.class, OutboxEvent.class})
+@EnableJpaRepositories(basePackageClasses = {ShowtimeRepository.class, OutboxEventRepository.class})
+@EnableJpaAuditing
+@Import({ShowtimeService.class, CatalogLookupService.class, SeatInventoryService.class, SeatPersistenceWriter.class,
+        ShowtimeCardService.class, OutboxService.class, InProcessEventBus.class, SeatAvailabilityFeed.class,
+        ReadCoalescer.class, SeatReleaseLog.class})
+public class ShowtimeBenchmarkContext {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public MovieServiceClient movieServiceClient() {
+        return ids -> ids.stream()
+                .map(id -> MovieDTO.builder().id(id).title(movieTitle(id)).durationInMinutes(120).build())
+                .toList();
+    }
+
+    @Bean
+    public TheaterServiceClient theaterServiceClient() {
+        return ids -> ids.stream()
+                .map(id -> TheaterDTO.builder().id(id).name(theaterName(id)).location("Downtown").seatingCapacity(200).build())
+                .toList();
+    }
+
+    private static String movieTitle(Long id) {
+        return "Movie " + id;
+    }
+
+    private static String theaterName(Long id) {
+        return "Theater " + id;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.movietix.benchmarks.showtime;
+
+import com.movietix.benchmarks.BenchmarkContexts;
+import com.movietix.showtime.dto.ShowtimeDTO;
+import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.service.ShowtimeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// ShowtimeService reads, i.e. the query plus convertToDTO enrichment from the catalog near-cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ShowtimeServiceBenchmark {
+
+    private static final int SHOWTIMES = 1000;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ShowtimeService showtimeService;
+    private List<Long> ids;
+    private Long singleId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(ShowtimeBenchmarkContext.class, "showtimes");
+        showtimeService = context.getBean(ShowtimeService.class);
+
+        List<Showtime> showtimes = new ArrayList<>();
+        for (int i = 0; i < SHOWTIMES; i++) {
+            showtimes.add(Showtime.builder()
+                    .movieId((long) (i % 50))
+                    .theaterId((long) (i % 10))
+                    .showDateTime(LocalDateTime.of(2030, 1, 1, 19, 30).plusHours(i))
+                    .ticketPrice(new BigDecimal("12.50"))
+                    .availableSeats(200)
+                    .build());
+        }
+        List<Showtime> saved = context.getBean(ShowtimeRepository.class).saveAll(showtimes);
+        ids = saved.stream().limit(batchSize).map(Showtime::getId).toList();
+        singleId = ids.get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ShowtimeDTO> getShowtimesByIds() {
+        return showtimeService.getShowtimesByIds(ids);
+    }
+
+    @Benchmark
+    public Optional<ShowtimeDTO> getShowtimeById() {
+        return showtimeService.getShowtimeById(singleId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.movietix.booking.client;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatSelectionRequest {
+    private List<String> seats;
+}
\ No newline at end of file
@@ -4,14 +4,29 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.List;
+
 @FeignClient(name = "showtime-service", url = "${services.showtime-service.url:http://localhost:8084}")
 public interface ShowtimeServiceClient {
     
     @GetMapping("/api/showtimes/{id}")
     ShowtimeDTO getShowtime(@PathVariable("id") Long id);
     
-    @PutMapping("/api/showtimes/{id}/book-seats")
-    void bookSeats(@PathVariable("id") Long showtimeId, @RequestParam("seats") Integer seats);
+    @GetMapping("/api/showtimes")
+    List<ShowtimeDTO> getShowtimes(@RequestParam("ids") Collection<Long> ids);
+    
+    @PutMapping("/api/internal/showtimes/{id}/book-seats")
+    SeatAssignmentDTO bookSeats(@PathVariable("id") Long showtimeId, @RequestParam("seats") Integer seats);
+    
+    @PutMapping("/api/internal/showtimes/{id}/release-seats")
+    void releaseSeats(@PathVariable("id") Long showtimeId, @RequestParam("seats") Integer seats,
+                      @RequestParam(value = "releaseKey", required = false) String releaseKey,
+                      @RequestBody SeatSelectionRequest labels);
+    
+    @PutMapping("/api/internal/showtimes/{id}/seats/claim")
+    SeatAssignmentDTO claimSeats(@PathVariable("id") Long showtimeId, @RequestBody SeatSelectionRequest request);
 }
\ No newline at end of file
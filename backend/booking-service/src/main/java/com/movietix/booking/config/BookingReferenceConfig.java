@@ -0,0 +1,27 @@
+package com.movietix.booking.config;
+
+import com.movietix.booking.reference.BookingReferenceGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class BookingReferenceConfig {
+
+    // Every running booking-service instance needs its own node id (0-1023); nothing checks that across instances
+    @Bean
+    public BookingReferenceGenerator bookingReferenceGenerator(@Value("${booking.reference.node-id:-1}") long nodeId,
+                                                               @Value("${booking.reference.instances:1}") int instances) {
+        if (nodeId < 0) {
+            if (instances > 1) {
+                throw new IllegalStateException("booking.reference.node-id must be set when booking.reference.instances is "
+                        + instances + "; give each instance a different id between 0 and " + BookingReferenceGenerator.MAX_NODE_ID);
+            }
+            nodeId = 0;
+            log.info("booking.reference.node-id is not set; using node id 0 for a single instance");
+        }
+        return new BookingReferenceGenerator(nodeId);
+    }
+}
\ No newline at end of file
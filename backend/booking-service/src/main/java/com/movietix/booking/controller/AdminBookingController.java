@@ -0,0 +1,43 @@
+package com.movietix.booking.controller;
+
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.booking.dto.CursorPage;
+import com.movietix.booking.service.BookingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/bookings")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminBookingController {
+
+    private final BookingService bookingService;
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<BookingDTO>> getBookingsPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        log.info("Request to get bookings page after cursor: {}", cursor);
+        try {
+            return ResponseEntity.ok(bookingService.getBookingsPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching bookings page: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Newline-delimited JSON, written while rows are read from the database
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportBookings() {
+        log.info("Request to export all bookings");
+        StreamingResponseBody body = bookingService::exportBookings;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+}
\ No newline at end of file
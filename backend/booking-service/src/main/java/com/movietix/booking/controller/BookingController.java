@@ -2,15 +2,23 @@ package com.movietix.booking.controller;
 
 import com.movietix.booking.dto.BookingDTO;
 import com.movietix.booking.dto.CreateBookingRequest;
+import com.movietix.booking.dto.CursorPage;
+import com.movietix.booking.exception.IdempotencyKeyMismatchException;
+import com.movietix.booking.reference.BookingReferenceGenerator;
+import com.movietix.booking.security.CurrentUser;
+import com.movietix.booking.security.UserIdentity;
 import com.movietix.booking.service.BookingService;
-import jakarta.servlet.http.HttpServletRequest;
+import com.movietix.booking.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,12 +28,14 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
 
+    // Deprecated: bounded to the first page; use /api/admin/bookings/page or /export
+    @Deprecated
     @GetMapping
     public ResponseEntity<List<BookingDTO>> getAllBookings() {
         log.info("Request to get all bookings");
-        List<BookingDTO> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+        return firstPage(bookingService.getAllBookings(), "/api/admin/bookings/page");
     }
 
     @GetMapping("/{id}")
@@ -36,17 +46,34 @@ public class BookingController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/reference/{reference}")
+    public ResponseEntity<BookingDTO> getBookingByReference(@CurrentUser UserIdentity user,
+                                                            @PathVariable("reference") String reference) {
+        log.info("Request to get booking with reference: {}", reference);
+
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        // The check symbol catches most mistyped references without a database lookup
+        if (!BookingReferenceGenerator.isValid(reference)) {
+            return ResponseEntity.badRequest().build();
+        }
+        // References are time-ordered and so guessable; only the booking's owner or an admin may read it
+        return bookingService.getBookingByReference(reference.toUpperCase())
+                .filter(booking -> booking.getUserId().equals(user.userId()) || "ROLE_ADMIN".equals(user.role()))
+                .map(booking -> ResponseEntity.ok(booking))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/my-bookings")
-    public ResponseEntity<List<BookingDTO>> getMyBookings(HttpServletRequest request) {
+    public ResponseEntity<List<BookingDTO>> getMyBookings(@CurrentUser UserIdentity user) {
         log.info("Request to get my bookings");
         
-        // Extract user ID from JWT token (you'll need to implement this)
-        Long userId = extractUserIdFromRequest(request);
-        if (userId == null) {
+        if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
-        List<BookingDTO> bookings = bookingService.getMyBookings(userId);
+        List<BookingDTO> bookings = bookingService.getMyBookings(user.userId());
         return ResponseEntity.ok(bookings);
     }
 
@@ -60,18 +87,28 @@ public class BookingController {
     @PostMapping
     public ResponseEntity<BookingDTO> createBooking(
             @Valid @RequestBody CreateBookingRequest request,
-            HttpServletRequest httpRequest) {
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @CurrentUser UserIdentity user) {
         log.info("Request to create booking for showtime: {}", request.getShowtimeId());
         
-        // Extract user ID from JWT token
-        Long userId = extractUserIdFromRequest(httpRequest);
-        if (userId == null) {
+        if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            BookingDTO booking = bookingService.createBooking(request, userId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+            if (idempotencyKey == null) {
+                BookingDTO booking = bookingService.createBooking(request, user.userId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+            }
+            // A retry with the same key gets the original booking back
+            IdempotencyService.Outcome outcome = idempotencyService.execute(user.userId(), idempotencyKey, request,
+                    () -> bookingService.createBooking(request, user.userId(), idempotencyKey));
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header("Idempotent-Replayed", String.valueOf(outcome.replayed()))
+                    .body(outcome.booking());
+        } catch (IdempotencyKeyMismatchException e) {
+            log.warn("Rejected booking request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
         } catch (RuntimeException e) {
             log.error("Error creating booking: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -106,22 +143,14 @@ public class BookingController {
         }
     }
 
-    // Helper method to extract user ID from JWT token
-    // This is a simplified version - in production, you'd use proper JWT parsing
-    private Long extractUserIdFromRequest(HttpServletRequest request) {
-        try {
-            String authHeader = request.getHeader("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                String token = authHeader.substring(7);
-                // For now, return a hardcoded user ID
-                // In production, you'd decode the JWT and extract the user ID
-                log.info("Extracted user ID from token (hardcoded): 2");
-                return 2L; // Hardcoded for now
-            }
-        } catch (Exception e) {
-            log.error("Error extracting user ID from token: {}", e.getMessage());
+    // Old clients of the unpaged listing get the first page as a plain list, with a Link to the next one
+    private static <T> ResponseEntity<List<T>> firstPage(CursorPage<T> page, String pagePath) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+        if (page.isHasMore()) {
+            response.header(HttpHeaders.LINK, "<" + pagePath + "?cursor="
+                    + URLEncoder.encode(page.getNextCursor(), StandardCharsets.UTF_8) + ">; rel=\"next\"");
         }
-        return null;
+        return response.body(page.getItems());
     }
 
     // Inner class for update status request
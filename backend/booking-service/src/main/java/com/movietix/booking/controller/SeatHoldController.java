@@ -0,0 +1,89 @@
+package com.movietix.booking.controller;
+
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.booking.dto.CreateHoldRequest;
+import com.movietix.booking.dto.SeatHoldDTO;
+import com.movietix.booking.security.CurrentUser;
+import com.movietix.booking.security.UserIdentity;
+import com.movietix.booking.service.SeatHoldService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bookings/holds")
+@RequiredArgsConstructor
+@Slf4j
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    @PostMapping
+    public ResponseEntity<SeatHoldDTO> createHold(
+            @Valid @RequestBody CreateHoldRequest request,
+            @CurrentUser UserIdentity user) {
+        log.info("Request to hold seats for showtime: {}", request.getShowtimeId());
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            SeatHoldDTO hold = seatHoldService.createHold(request, user.userId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(hold);
+        } catch (RuntimeException e) {
+            log.error("Error creating seat hold: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SeatHoldDTO> getHold(
+            @PathVariable("id") Long id,
+            @CurrentUser UserIdentity user) {
+        log.info("Request to get seat hold with id: {}", id);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return seatHoldService.getHold(id, user.userId())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<BookingDTO> confirmHold(
+            @PathVariable("id") Long id,
+            @CurrentUser UserIdentity user) {
+        log.info("Request to confirm seat hold with id: {}", id);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            BookingDTO booking = seatHoldService.confirmHold(id, user.userId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(booking);
+        } catch (RuntimeException e) {
+            log.error("Error confirming seat hold: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<SeatHoldDTO> releaseHold(
+            @PathVariable("id") Long id,
+            @CurrentUser UserIdentity user) {
+        log.info("Request to release seat hold with id: {}", id);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            return ResponseEntity.ok(seatHoldService.releaseHold(id, user.userId()));
+        } catch (RuntimeException e) {
+            log.error("Error releasing seat hold: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
\ No newline at end of file
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -20,6 +21,7 @@ public class BookingDTO {
     private BigDecimal totalPrice;
     private String status;
     private String bookingReference;
+    private List<String> seats;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,4 +21,7 @@ public class CreateBookingRequest {
     @NotNull(message = "Number of seats is required")
     @Min(value = 1, message = "Number of seats must be at least 1")
     private Integer numberOfSeats;
+    
+    // Optional seat selection, e.g. ["A5", "A6"]; must match numberOfSeats when given
+    private List<String> seats;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.movietix.booking.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateHoldRequest {
+    
+    @NotNull(message = "Showtime ID is required")
+    private Long showtimeId;
+    
+    @NotNull(message = "Number of seats is required")
+    @Min(value = 1, message = "Number of seats must be at least 1")
+    private Integer numberOfSeats;
+    
+    // Optional seat selection, e.g. ["A5", "A6"]; must match numberOfSeats when given
+    private List<String> seats;
+}
\ No newline at end of file
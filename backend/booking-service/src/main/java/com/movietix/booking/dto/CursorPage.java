@@ -0,0 +1,19 @@
+package com.movietix.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+    // Pass back as ?cursor= to get the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.movietix.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldDTO {
+    private Long id;
+    private Long userId;
+    private Long showtimeId;
+    private Integer numberOfSeats;
+    private List<String> seats;
+    private BigDecimal totalPrice;
+    private String status;
+    private LocalDateTime expiresAt;
+    private Long bookingId;
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -45,6 +45,10 @@ public class Booking {
     @Column(name = "booking_reference", unique = true)
     private String bookingReference;
     
+    // Comma-separated seat labels, e.g. "A5,A6"; null for showtimes without a seat layout
+    @Column(name = "seat_numbers")
+    private String seatNumbers;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,45 @@
+package com.movietix.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Result of a POST /api/bookings made with an Idempotency-Key, written in the booking's transaction
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // Hash of the request body, so a key reused for a different request is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    // Serialized BookingDTO returned to the original request
+    @Lob
+    @Column(name = "response", nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
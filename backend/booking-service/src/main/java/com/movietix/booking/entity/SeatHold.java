@@ -0,0 +1,72 @@
+package com.movietix.booking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "seat_holds", indexes = @Index(name = "idx_seat_holds_status", columnList = "status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class SeatHold {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+    
+    @Column(name = "number_of_seats", nullable = false)
+    private Integer numberOfSeats;
+    
+    // Comma-separated seat labels, e.g. "A5,A6"; null for showtimes without a seat layout
+    @Column(name = "seat_numbers")
+    private String seatNumbers;
+    
+    @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private HoldStatus status = HoldStatus.PENDING;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    // Set once the hold is confirmed into a booking
+    @Column(name = "booking_id")
+    private Long bookingId;
+    
+    // Expired holds of one showtime handed back together; the id of the group's first hold, which keys the release
+    @Column(name = "release_group")
+    private Long releaseGroup;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // RELEASING: expired, seats not yet confirmed back on showtime-service
+    public enum HoldStatus {
+        PENDING, CONFIRMED, RELEASING, EXPIRED, RELEASED
+    }
+}
\ No newline at end of file
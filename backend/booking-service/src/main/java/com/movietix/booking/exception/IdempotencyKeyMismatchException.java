@@ -0,0 +1,8 @@
+package com.movietix.booking.exception;
+
+// An Idempotency-Key was reused with a different request body
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.movietix.booking.reference;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style booking references: 41 bits of milliseconds since 2024-01-01,
+ * 10 bits of node id and a 12-bit sequence, written as 13 Crockford base32
+ * symbols plus a mod-37 check symbol, e.g. {@code BK-0A8JD37P80W008}.
+ *
+ * <p>References from one generator are unique and time-ordered without locks:
+ * the clock and sequence share one AtomicLong updated by CAS. When 4096
+ * references are taken within a millisecond, or the wall clock steps back, the
+ * sequence carries into the timestamp instead of waiting. That guarantee holds
+ * only for the life of the process: the last value is not persisted, so a
+ * restart with the clock behind the previous run's last reference can issue
+ * it again. Different processes must use different node ids.
+ */
+public final class BookingReferenceGenerator {
+
+    public static final String PREFIX = "BK-";
+
+    // 2024-01-01T00:00:00Z; 41 bits of milliseconds last until 2093
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final int SYMBOLS = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final char[] CHECK_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ*~$=U".toCharArray();
+
+    private final long nodeBits;
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last reference handed out
+    private final AtomicLong state = new AtomicLong();
+
+    public BookingReferenceGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+    }
+
+    public String next() {
+        return encode(nextId());
+    }
+
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            next = now > previous ? now : previous + 1;
+        } while (!state.compareAndSet(previous, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    public static String encode(long id) {
+        char[] chars = new char[PREFIX.length() + SYMBOLS + 1];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        long value = id;
+        for (int i = PREFIX.length() + SYMBOLS - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        chars[chars.length - 1] = CHECK_ALPHABET[(int) Long.remainderUnsigned(id, 37)];
+        return new String(chars);
+    }
+
+    // Catches mistyped references before they reach the database
+    public static boolean isValid(String reference) {
+        if (reference == null || reference.length() != PREFIX.length() + SYMBOLS + 1
+                || !reference.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            return false;
+        }
+        long value = 0;
+        for (int i = PREFIX.length(); i < PREFIX.length() + SYMBOLS; i++) {
+            int symbol = indexOf(ALPHABET, Character.toUpperCase(reference.charAt(i)));
+            // The leading symbol holds only the top 4 of the id's 64 bits; more would overflow past the check
+            if (symbol < 0 || (i == PREFIX.length() && symbol > 15)) {
+                return false;
+            }
+            value = (value << 5) | symbol;
+        }
+        char check = Character.toUpperCase(reference.charAt(reference.length() - 1));
+        return CHECK_ALPHABET[(int) Long.remainderUnsigned(value, 37)] == check;
+    }
+
+    private static int indexOf(char[] alphabet, char c) {
+        for (int i = 0; i < alphabet.length; i++) {
+            if (alphabet[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,18 @@
 package com.movietix.booking.repository;
 
 import com.movietix.booking.entity.Booking;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -26,4 +32,12 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Count total bookings for a showtime
     @Query("SELECT COALESCE(SUM(b.numberOfSeats), 0) FROM Booking b WHERE b.showtimeId = :showtimeId AND b.status = 'CONFIRMED'")
     Integer countConfirmedSeatsForShowtime(@Param("showtimeId") Long showtimeId);
+    
+    // Keyset pagination on id: the next page starts after the last id seen
+    List<Booking> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+    
+    // Row-by-row read for exports; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Booking b ORDER BY b.id ASC")
+    Stream<Booking> streamAll();
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.movietix.booking.repository;
+
+import com.movietix.booking.entity.SeatHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+    
+    // Lock a pending hold so confirm, release and expiry cannot both win
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id = :id AND h.status = 'PENDING'")
+    Optional<SeatHold> findPendingForUpdate(@Param("id") Long id);
+    
+    // Lock a batch of pending holds for expiry
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM SeatHold h WHERE h.id IN :ids AND h.status = 'PENDING'")
+    List<SeatHold> findPendingForUpdate(@Param("ids") Collection<Long> ids);
+    
+    // Id and deadline of every pending or releasing hold, used to refill the expiry wheel on startup
+    @Query("SELECT h.id, h.expiresAt FROM SeatHold h WHERE h.status IN ('PENDING', 'RELEASING')")
+    List<Object[]> findPendingExpiries();
+    
+    // Release groups of the given holds that are still waiting for their seats to go back
+    @Query("SELECT DISTINCT h.releaseGroup FROM SeatHold h WHERE h.id IN :ids AND h.status = 'RELEASING'")
+    List<Long> findReleasingGroups(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT h FROM SeatHold h WHERE h.releaseGroup = :releaseGroup AND h.status = 'RELEASING'")
+    List<SeatHold> findReleasing(@Param("releaseGroup") Long releaseGroup);
+    
+    @Modifying
+    @Query("UPDATE SeatHold h SET h.status = :status, h.updatedAt = :now WHERE h.releaseGroup = :releaseGroup AND h.status = 'RELEASING'")
+    int finishRelease(@Param("releaseGroup") Long releaseGroup, @Param("status") SeatHold.HoldStatus status,
+                      @Param("now") LocalDateTime now);
+}
\ No newline at end of file
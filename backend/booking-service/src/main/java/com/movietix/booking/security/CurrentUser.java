@@ -0,0 +1,12 @@
+package com.movietix.booking.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Injects the caller's UserIdentity into a controller method, or null when unauthenticated
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
\ No newline at end of file
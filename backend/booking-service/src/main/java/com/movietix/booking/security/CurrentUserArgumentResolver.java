@@ -0,0 +1,75 @@
+package com.movietix.booking.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters. Behind the gateway, which verifies the
+ * token, strips client-sent X-User-* headers and sets its own, the caller is read
+ * from X-User-Id / X-User-Email / X-User-Role. With the local JWT fallback on, the
+ * service is reachable without the gateway, so those headers are ignored and only
+ * a locally verified bearer token counts. The result is kept as a request
+ * attribute so it is resolved at most once per request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String IDENTITY_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".identity";
+    private static final UserIdentity ANONYMOUS = new UserIdentity(null, null, null);
+
+    private final LocalJwtVerifier localJwtVerifier;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && UserIdentity.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) {
+            return null;
+        }
+
+        UserIdentity identity = (UserIdentity) request.getAttribute(IDENTITY_ATTRIBUTE);
+        if (identity == null) {
+            identity = resolve(request);
+            request.setAttribute(IDENTITY_ATTRIBUTE, identity);
+        }
+        return identity == ANONYMOUS ? null : identity;
+    }
+
+    private UserIdentity resolve(HttpServletRequest request) {
+        if (localJwtVerifier.isEnabled()) {
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                return localJwtVerifier.verify(authHeader.substring(7)).orElse(ANONYMOUS);
+            }
+            return ANONYMOUS;
+        }
+
+        String userId = request.getHeader("X-User-Id");
+        if (userId != null && !userId.isBlank() && !"null".equals(userId)) {
+            try {
+                return new UserIdentity(Long.valueOf(userId),
+                        request.getHeader("X-User-Email"), request.getHeader("X-User-Role"));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed X-User-Id header: {}", userId);
+                return ANONYMOUS;
+            }
+        }
+        return ANONYMOUS;
+    }
+}
\ No newline at end of file
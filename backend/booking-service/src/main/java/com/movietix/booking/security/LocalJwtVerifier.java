@@ -0,0 +1,54 @@
+package com.movietix.booking.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Fallback for requests that reach booking-service without passing through the
+ * gateway. Tokens must carry an expiry, as in the gateway. The signing key and
+ * parser are built once at startup.
+ */
+@Component
+@Slf4j
+public class LocalJwtVerifier {
+
+    private final JwtParser parser;
+    private final boolean enabled;
+
+    public LocalJwtVerifier(@Value("${jwt.secret:myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough}") String secret,
+                            @Value("${jwt.local-fallback.enabled:false}") boolean enabled) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes()))
+                .build();
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<UserIdentity> verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            // The parser only rejects an expiry in the past; a token without one would never expire
+            if (claims.getExpiration() == null) {
+                log.warn("Local token verification failed: token has no expiry");
+                return Optional.empty();
+            }
+            return Optional.of(new UserIdentity(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class)));
+        } catch (Exception e) {
+            log.warn("Local token verification failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
\ No newline at end of file
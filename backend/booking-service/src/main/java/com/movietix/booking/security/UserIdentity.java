@@ -0,0 +1,5 @@
+package com.movietix.booking.security;
+
+// The authenticated caller, as established by the gateway or a locally verified token
+public record UserIdentity(Long userId, String email, String role) {
+}
\ No newline at end of file
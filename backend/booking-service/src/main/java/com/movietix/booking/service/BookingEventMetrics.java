@@ -0,0 +1,35 @@
+package com.movietix.booking.service;
+
+import com.movietix.outbox.event.DomainEvent;
+import com.movietix.outbox.event.EventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts booking changes by event type as bookings.events. The counts come from the
+ * outbox, so they only move once a change has committed; a batch redelivered after
+ * a failed relay is counted again.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingEventMetrics {
+
+    private final EventBus eventBus;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(BookingService.AGGREGATE_TYPE, this::bookingChanged);
+    }
+
+    void bookingChanged(DomainEvent event) {
+        Counter.builder("bookings.events")
+                .description("Committed booking changes by event type")
+                .tag("type", event.type())
+                .register(meterRegistry)
+                .increment();
+    }
+}
\ No newline at end of file
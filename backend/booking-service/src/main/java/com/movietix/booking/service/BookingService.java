@@ -1,40 +1,131 @@
 package com.movietix.booking.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.movietix.booking.client.ShowtimeDTO;
 import com.movietix.booking.client.ShowtimeServiceClient;
 import com.movietix.booking.client.UserDTO;
 import com.movietix.booking.client.UserServiceClient;
 import com.movietix.booking.dto.BookingDTO;
 import com.movietix.booking.dto.CreateBookingRequest;
+import com.movietix.booking.dto.CursorPage;
 import com.movietix.booking.entity.Booking;
+import com.movietix.booking.entity.SeatHold;
+import com.movietix.booking.reference.BookingReferenceGenerator;
 import com.movietix.booking.repository.BookingRepository;
+import com.movietix.outbox.service.OutboxService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.movietix.booking.service.SeatReservationService.joinSeats;
+import static com.movietix.booking.service.SeatReservationService.splitSeats;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class BookingService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    static final String AGGREGATE_TYPE = "Booking";
+
     private final BookingRepository bookingRepository;
     private final ShowtimeServiceClient showtimeServiceClient;
     private final UserServiceClient userServiceClient;
+    private final SeatReservationService seatReservationService;
+    private final ShowtimeLookupService showtimeLookupService;
+    private final OutboxService outboxService;
+    private final IdempotencyService idempotencyService;
+    private final BookingReferenceGenerator bookingReferenceGenerator;
+    private final ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * First {@value #MAX_PAGE_SIZE} bookings in keyset order, for clients of the old
+     * unpaged listing.
+     *
+     * @deprecated use {@link #getBookingsPage} or {@link #exportBookings}
+     */
+    @Deprecated
     @Transactional(readOnly = true)
-    public List<BookingDTO> getAllBookings() {
-        log.info("Fetching all bookings");
-        List<Booking> bookings = bookingRepository.findAll();
-        return bookings.stream()
-                .map(this::convertToDTO)
-                .toList();
+    public CursorPage<BookingDTO> getAllBookings() {
+        log.info("Fetching first page of all bookings");
+        return getBookingsPage(null, MAX_PAGE_SIZE);
+    }
+
+    // Keyset page ordered by id; cost is independent of how deep the page is
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDTO> getBookingsPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        log.info("Fetching bookings page after cursor: {}", cursor);
+
+        long afterId;
+        try {
+            afterId = cursor == null || cursor.isBlank() ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+
+        // One extra row tells whether another page follows
+        List<Booking> bookings = bookingRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(size + 1));
+        boolean hasMore = bookings.size() > size;
+        List<Booking> page = hasMore ? bookings.subList(0, size) : bookings;
+        return CursorPage.<BookingDTO>builder()
+                .items(convertToDTOs(page))
+                .nextCursor(hasMore ? String.valueOf(page.get(page.size() - 1).getId()) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Writes every booking as one JSON object per line. Rows are read through a
+     * fetch-size cursor, detached as they are read and enriched in chunks, so memory
+     * stays flat regardless of table size. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportBookings(OutputStream out) throws IOException {
+        log.info("Exporting all bookings");
+        long count = 0;
+        List<Booking> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Booking> bookings = bookingRepository.streamAll()) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                entityManager.detach(booking);
+                chunk.add(booking);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    count += writeLines(chunk, out);
+                    chunk.clear();
+                }
+            }
+        }
+        count += writeLines(chunk, out);
+        out.flush();
+        log.info("Exported {} bookings", count);
+        return count;
     }
 
     @Transactional(readOnly = true)
@@ -44,13 +135,18 @@ public class BookingService {
                 .map(this::convertToDTO);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<BookingDTO> getBookingByReference(String bookingReference) {
+        log.info("Fetching booking with reference: {}", bookingReference);
+        return Optional.ofNullable(bookingRepository.findByBookingReference(bookingReference))
+                .map(this::convertToDTO);
+    }
+
     @Transactional(readOnly = true)
     public List<BookingDTO> getBookingsByUserId(Long userId) {
         log.info("Fetching bookings for user id: {}", userId);
         List<Booking> bookings = bookingRepository.findByUserId(userId);
-        return bookings.stream()
-                .map(this::convertToDTO)
-                .toList();
+        return convertToDTOs(bookings);
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +156,11 @@ public class BookingService {
     }
 
     public BookingDTO createBooking(CreateBookingRequest request, Long userId) {
+        return createBooking(request, userId, null);
+    }
+
+    // With an idempotency key the result is recorded in this transaction for replays
+    public BookingDTO createBooking(CreateBookingRequest request, Long userId, String idempotencyKey) {
         log.info("Creating booking for user {} - showtime: {}, seats: {}", 
                 userId, request.getShowtimeId(), request.getNumberOfSeats());
 
@@ -72,6 +173,11 @@ public class BookingService {
             throw new RuntimeException("Showtime not found or unavailable");
         }
 
+        if (request.getSeats() != null && !request.getSeats().isEmpty()
+                && request.getSeats().size() != request.getNumberOfSeats()) {
+            throw new RuntimeException("Selected seats do not match number of seats");
+        }
+
         // Check seat availability
         if (showtime.getAvailableSeats() < request.getNumberOfSeats()) {
             throw new RuntimeException("Not enough seats available");
@@ -94,53 +200,126 @@ public class BookingService {
                 .bookingReference(bookingReference)
                 .build();
 
+        // Take the seats on showtime-service: chosen seats, best available, or a plain count
+        List<String> seats = seatReservationService.reserve(request.getShowtimeId(), request.getNumberOfSeats(), request.getSeats());
+        booking.setSeatNumbers(joinSeats(seats));
+
         try {
-            // Update showtime seat availability (this would ideally be done atomically)
-            // For now, we'll skip this step since the showtime service doesn't have this endpoint yet
-            // showtimeServiceClient.bookSeats(request.getShowtimeId(), request.getNumberOfSeats());
-            
-            Booking savedBooking = bookingRepository.save(booking);
+            Booking savedBooking = bookingRepository.saveAndFlush(booking);
+            outboxService.record(AGGREGATE_TYPE, savedBooking.getId(), "BookingCreated", savedBooking);
             log.info("Created booking with id: {} and reference: {}", 
                     savedBooking.getId(), savedBooking.getBookingReference());
             
-            return convertToDTO(savedBooking);
+            // Reuse the showtime loaded above instead of fetching it again
+            BookingDTO created = convertToDTO(savedBooking, showtime);
+            if (idempotencyKey != null) {
+                idempotencyService.record(userId, idempotencyKey, request, created);
+            }
+            return created;
         } catch (Exception e) {
             log.error("Error creating booking: {}", e.getMessage());
+            seatReservationService.release(request.getShowtimeId(), request.getNumberOfSeats(), seats);
             throw new RuntimeException("Failed to create booking: " + e.getMessage());
         }
     }
 
+    // Seats were already taken when the hold was created, so nothing is reserved here
+    public BookingDTO createBookingFromHold(SeatHold hold) {
+        log.info("Creating booking for user {} from hold {}", hold.getUserId(), hold.getId());
+
+        Booking booking = Booking.builder()
+                .userId(hold.getUserId())
+                .showtimeId(hold.getShowtimeId())
+                .numberOfSeats(hold.getNumberOfSeats())
+                .totalPrice(hold.getTotalPrice())
+                .status(Booking.BookingStatus.CONFIRMED)
+                .bookingReference(generateBookingReference())
+                .seatNumbers(hold.getSeatNumbers())
+                .build();
+
+        Booking savedBooking = bookingRepository.save(booking);
+        outboxService.record(AGGREGATE_TYPE, savedBooking.getId(), "BookingCreated", savedBooking);
+        log.info("Created booking with id: {} and reference: {}",
+                savedBooking.getId(), savedBooking.getBookingReference());
+        return convertToDTO(savedBooking);
+    }
+
     public BookingDTO updateBookingStatus(Long id, String status) {
         log.info("Updating booking {} status to: {}", id, status);
         
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
 
+        Booking.BookingStatus bookingStatus;
         try {
-            Booking.BookingStatus bookingStatus = Booking.BookingStatus.valueOf(status.toUpperCase());
-            booking.setStatus(bookingStatus);
-            
-            Booking updatedBooking = bookingRepository.save(booking);
-            log.info("Updated booking {} status to: {}", id, status);
-            
-            return convertToDTO(updatedBooking);
+            bookingStatus = Booking.BookingStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Invalid booking status: " + status);
         }
+
+        boolean wasConfirmed = booking.getStatus() == Booking.BookingStatus.CONFIRMED;
+        boolean isConfirmed = bookingStatus == Booking.BookingStatus.CONFIRMED;
+        if (!wasConfirmed && isConfirmed) {
+            List<String> seats = seatReservationService.reserve(booking.getShowtimeId(), booking.getNumberOfSeats(),
+                    splitSeats(booking.getSeatNumbers()));
+            booking.setSeatNumbers(joinSeats(seats));
+        } else if (wasConfirmed && !isConfirmed) {
+            seatReservationService.releaseAfterCommit(booking.getShowtimeId(), booking.getNumberOfSeats(),
+                    splitSeats(booking.getSeatNumbers()));
+        }
+
+        booking.setStatus(bookingStatus);
+
+        Booking updatedBooking = bookingRepository.save(booking);
+        outboxService.record(AGGREGATE_TYPE, id,
+                bookingStatus == Booking.BookingStatus.CANCELLED ? "BookingCancelled" : "BookingStatusChanged",
+                updatedBooking);
+        log.info("Updated booking {} status to: {}", id, status);
+
+        return convertToDTO(updatedBooking);
     }
 
     public void deleteBooking(Long id) {
         log.info("Deleting booking with id: {}", id);
         
-        if (!bookingRepository.existsById(id)) {
-            throw new RuntimeException("Booking not found with id: " + id);
+        Booking booking = bookingRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Booking not found with id: " + id));
+
+        if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
+            seatReservationService.releaseAfterCommit(booking.getShowtimeId(), booking.getNumberOfSeats(),
+                    splitSeats(booking.getSeatNumbers()));
         }
 
-        bookingRepository.deleteById(id);
+        bookingRepository.delete(booking);
+        outboxService.record(AGGREGATE_TYPE, id, "BookingDeleted", booking);
         log.info("Deleted booking with id: {}", id);
     }
 
+    private int writeLines(List<Booking> bookings, OutputStream out) throws IOException {
+        for (BookingDTO dto : convertToDTOs(bookings)) {
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write('\n');
+        }
+        return bookings.size();
+    }
+
     private BookingDTO convertToDTO(Booking booking) {
+        return convertToDTOs(List.of(booking)).get(0);
+    }
+
+    // One bulk showtime lookup for all distinct showtime ids in the list
+    private List<BookingDTO> convertToDTOs(List<Booking> bookings) {
+        Set<Long> showtimeIds = new HashSet<>();
+        for (Booking booking : bookings) {
+            showtimeIds.add(booking.getShowtimeId());
+        }
+        Map<Long, ShowtimeDTO> showtimes = showtimeIds.isEmpty() ? Map.of() : showtimeLookupService.getShowtimes(showtimeIds);
+        return bookings.stream()
+                .map(booking -> convertToDTO(booking, showtimes.get(booking.getShowtimeId())))
+                .toList();
+    }
+
+    private BookingDTO convertToDTO(Booking booking, ShowtimeDTO showtime) {
         BookingDTO dto = BookingDTO.builder()
                 .id(booking.getId())
                 .userId(booking.getUserId())
@@ -149,19 +328,18 @@ public class BookingService {
                 .totalPrice(booking.getTotalPrice())
                 .status(booking.getStatus().name())
                 .bookingReference(booking.getBookingReference())
+                .seats(splitSeats(booking.getSeatNumbers()))
                 .createdAt(booking.getCreatedAt())
                 .updatedAt(booking.getUpdatedAt())
                 .build();
 
         // Enrich with showtime details
-        try {
-            ShowtimeDTO showtime = showtimeServiceClient.getShowtime(booking.getShowtimeId());
+        if (showtime != null) {
             dto.setMovieTitle(showtime.getMovieTitle());
             dto.setTheaterName(showtime.getTheaterName());
             dto.setShowDateTime(showtime.getShowDateTime());
             dto.setTicketPrice(showtime.getTicketPrice());
-        } catch (Exception e) {
-            log.warn("Error fetching showtime details for booking {}: {}", booking.getId(), e.getMessage());
+        } else {
             dto.setMovieTitle("Unknown Movie");
             dto.setTheaterName("Unknown Theater");
         }
@@ -170,6 +348,6 @@ public class BookingService {
     }
 
     private String generateBookingReference() {
-        return "BK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return bookingReferenceGenerator.next();
     }
 }
\ No newline at end of file
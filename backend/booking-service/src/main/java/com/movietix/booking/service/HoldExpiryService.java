@@ -0,0 +1,185 @@
+package com.movietix.booking.service;
+
+import com.movietix.booking.entity.SeatHold;
+import com.movietix.booking.repository.SeatHoldRepository;
+import com.movietix.booking.timer.HierarchicalTimerWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.movietix.booking.service.SeatReservationService.splitSeats;
+
+/**
+ * Expires pending seat holds. Deadlines live in a hierarchical timer wheel, so
+ * scheduling, cancelling and firing cost O(1) per hold. Expired holds are marked
+ * RELEASING in batches, their seats are handed back to showtime-service with one
+ * keyed call per showtime, and only then are they marked EXPIRED.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HoldExpiryService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final SeatReservationService seatReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, HierarchicalTimerWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    @Value("${booking.holds.tick:100ms}")
+    private Duration tick;
+
+    @Value("${booking.holds.expiry-batch-size:500}")
+    private int batchSize;
+
+    @Value("${booking.holds.release-retry-delay:30s}")
+    private Duration releaseRetryDelay;
+
+    private HierarchicalTimerWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService expiryWorker;
+
+    @PostConstruct
+    public void start() {
+        // 3 wheels of 64 slots: at a 100ms tick that covers about 7 hours without cascading past the top
+        wheel = new HierarchicalTimerWheel<>(tick.toMillis(), 6, 3, System.currentTimeMillis(), this::onExpired);
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "hold-expiry-ticker"));
+        expiryWorker = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "hold-expiry-worker"));
+        ticker.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        expiryWorker.shutdown();
+    }
+
+    // Pending and releasing holds survive a restart; put them back on the wheel (releasing ones are already due)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadPendingHolds() {
+        List<Object[]> pending = seatHoldRepository.findPendingExpiries();
+        for (Object[] row : pending) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("Scheduled expiry for {} pending seat holds", pending.size());
+    }
+
+    public void schedule(Long holdId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        timeouts.put(holdId, wheel.schedule(holdId, deadline));
+    }
+
+    public void cancel(Long holdId) {
+        wheel.cancel(timeouts.remove(holdId));
+    }
+
+    private void advance() {
+        try {
+            wheel.advance(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("Error advancing hold expiry wheel: {}", e.getMessage());
+        }
+    }
+
+    // Runs on the ticker thread: hand the ids off so the wheel keeps ticking during database work
+    private void onExpired(List<Long> holdIds) {
+        holdIds.forEach(timeouts::remove);
+        expiryWorker.execute(() -> {
+            for (int from = 0; from < holdIds.size(); from += batchSize) {
+                List<Long> batch = holdIds.subList(from, Math.min(from + batchSize, holdIds.size()));
+                try {
+                    expireBatch(batch);
+                } catch (Exception e) {
+                    log.error("Error expiring {} seat holds: {}", batch.size(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    // Holds are committed as RELEASING before showtime-service is called, so a confirm or release of the
+    // user cannot race the expiry, and a hand-back that fails or goes unconfirmed is retried from that state
+    void expireBatch(List<Long> holdIds) {
+        Set<Long> releaseGroups = new LinkedHashSet<>(seatHoldRepository.findReleasingGroups(holdIds));
+        List<Long> started = transactionTemplate.execute(status -> startRelease(holdIds));
+        if (started != null) {
+            releaseGroups.addAll(started);
+        }
+
+        int expired = 0;
+        for (Long releaseGroup : releaseGroups) {
+            expired += finishRelease(releaseGroup);
+        }
+        log.info("Expired {} seat holds across {} showtimes", expired, releaseGroups.size());
+    }
+
+    // One release group per showtime, so its seats go back in one call rather than one per hold
+    private List<Long> startRelease(List<Long> holdIds) {
+        Map<Long, List<SeatHold>> byShowtime = new HashMap<>();
+        seatHoldRepository.findPendingForUpdate(holdIds)
+                .forEach(hold -> byShowtime.computeIfAbsent(hold.getShowtimeId(), id -> new ArrayList<>()).add(hold));
+
+        List<Long> releaseGroups = new ArrayList<>();
+        for (List<SeatHold> holds : byShowtime.values()) {
+            Long releaseGroup = holds.stream().map(SeatHold::getId).min(Long::compare).orElseThrow();
+            holds.forEach(hold -> {
+                hold.setStatus(SeatHold.HoldStatus.RELEASING);
+                hold.setReleaseGroup(releaseGroup);
+            });
+            seatHoldRepository.saveAll(holds);
+            releaseGroups.add(releaseGroup);
+        }
+        return releaseGroups;
+    }
+
+    // Runs outside any transaction. Every attempt for a group sends the same seats under the same key,
+    // and showtime-service applies that key once, so a repeat after a lost reply does not free seats twice
+    private int finishRelease(Long releaseGroup) {
+        List<SeatHold> holds = seatHoldRepository.findReleasing(releaseGroup);
+        if (holds.isEmpty()) {
+            return 0;
+        }
+        Long showtimeId = holds.get(0).getShowtimeId();
+        try {
+            int seats = holds.stream().mapToInt(SeatHold::getNumberOfSeats).sum();
+            List<String> labels = holds.stream()
+                    .flatMap(hold -> splitSeats(hold.getSeatNumbers()).stream())
+                    .toList();
+            seatReservationService.releaseOrThrow(showtimeId, seats, labels, "hold-" + releaseGroup);
+            Integer expired = transactionTemplate.execute(status ->
+                    seatHoldRepository.finishRelease(releaseGroup, SeatHold.HoldStatus.EXPIRED, LocalDateTime.now()));
+            return expired != null ? expired : 0;
+        } catch (Exception e) {
+            log.error("Error releasing expired holds of showtime {}, retrying in {}: {}", showtimeId,
+                    releaseRetryDelay, e.getMessage());
+            LocalDateTime retryAt = LocalDateTime.now().plus(releaseRetryDelay);
+            holds.forEach(hold -> schedule(hold.getId(), retryAt));
+            return 0;
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.movietix.booking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.booking.dto.CreateBookingRequest;
+import com.movietix.booking.entity.IdempotencyKey;
+import com.movietix.booking.exception.IdempotencyKeyMismatchException;
+import com.movietix.booking.repository.IdempotencyKeyRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key handling for booking creation. Results are kept in a bounded
+ * in-memory map backed by the idempotency_keys table, which is written in the
+ * booking's own transaction. A replay is answered from either store without
+ * calling showtime-service or writing anything; concurrent retries of the same
+ * key on one instance wait for the first attempt instead of racing it.
+ */
+@Service
+@Timed("service.method")
+@Slf4j
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    public record Outcome(BookingDTO booking, boolean replayed) {
+    }
+
+    private record StoredResult(String requestHash, BookingDTO booking) {
+    }
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Cache<String, StoredResult> results;
+    private final Map<String, CompletableFuture<StoredResult>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              ObjectMapper objectMapper,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${booking.idempotency.cache-size:100000}") long cacheSize,
+                              @Value("${booking.idempotency.ttl:24h}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "idempotency-keys");
+    }
+
+    public Outcome execute(Long userId, String key, CreateBookingRequest request, Supplier<BookingDTO> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String cacheKey = userId + ":" + key;
+        String requestHash = requestHash(request);
+
+        StoredResult stored = find(userId, key, cacheKey);
+        if (stored != null) {
+            return replay(stored, requestHash, key);
+        }
+
+        CompletableFuture<StoredResult> attempt = new CompletableFuture<>();
+        CompletableFuture<StoredResult> running = inFlight.putIfAbsent(cacheKey, attempt);
+        if (running != null) {
+            try {
+                return replay(running.join(), requestHash, key);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            BookingDTO booking = action.get();
+            StoredResult result = new StoredResult(requestHash, booking);
+            results.put(cacheKey, result);
+            attempt.complete(result);
+            return new Outcome(booking, false);
+        } catch (RuntimeException e) {
+            // Another instance may have committed the same key first; its result is the answer
+            StoredResult winner = find(userId, key, cacheKey);
+            if (winner != null) {
+                attempt.complete(winner);
+                return replay(winner, requestHash, key);
+            }
+            attempt.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, attempt);
+        }
+    }
+
+    // Called by BookingService inside the booking transaction, so key and booking commit together
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, String key, CreateBookingRequest request, BookingDTO booking) {
+        String response;
+        try {
+            response = objectMapper.writeValueAsString(booking);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize booking " + booking.getId(), e);
+        }
+        // Flush now so a duplicate key fails here, while the caller can still release its seats
+        idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                .userId(userId)
+                .idempotencyKey(key)
+                .requestHash(requestHash(request))
+                .bookingId(booking.getId())
+                .response(response)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${booking.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl)));
+        log.debug("Purged {} expired idempotency keys", deleted);
+    }
+
+    private StoredResult find(Long userId, String key, String cacheKey) {
+        StoredResult cached = results.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        return idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, key)
+                .map(row -> {
+                    StoredResult result = new StoredResult(row.getRequestHash(), readBooking(row));
+                    results.put(cacheKey, result);
+                    return result;
+                })
+                .orElse(null);
+    }
+
+    private Outcome replay(StoredResult stored, String requestHash, String key) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("Idempotency-Key " + key + " was already used for a different request");
+        }
+        log.info("Replaying booking {} for Idempotency-Key {}", stored.booking().getId(), key);
+        return new Outcome(stored.booking(), true);
+    }
+
+    private BookingDTO readBooking(IdempotencyKey row) {
+        try {
+            return objectMapper.readValue(row.getResponse(), BookingDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored booking " + row.getBookingId(), e);
+        }
+    }
+
+    private static String requestHash(CreateBookingRequest request) {
+        String canonical = request.getShowtimeId() + "|" + request.getNumberOfSeats() + "|"
+                + (request.getSeats() == null ? "" : String.join(",", request.getSeats()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
\ No newline at end of file
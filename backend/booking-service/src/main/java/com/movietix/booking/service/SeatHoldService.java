@@ -0,0 +1,171 @@
+package com.movietix.booking.service;
+
+import com.movietix.booking.client.ShowtimeDTO;
+import com.movietix.booking.client.ShowtimeServiceClient;
+import com.movietix.booking.dto.BookingDTO;
+import com.movietix.booking.dto.CreateHoldRequest;
+import com.movietix.booking.dto.SeatHoldDTO;
+import com.movietix.booking.entity.SeatHold;
+import com.movietix.booking.repository.SeatHoldRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.movietix.booking.service.SeatReservationService.joinSeats;
+import static com.movietix.booking.service.SeatReservationService.splitSeats;
+
+/**
+ * Seat holds: seats are taken on showtime-service when the hold is created and
+ * kept for booking.holds.ttl. Confirming turns the hold into a booking; otherwise
+ * HoldExpiryService gives the seats back when the TTL runs out.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final ShowtimeServiceClient showtimeServiceClient;
+    private final SeatReservationService seatReservationService;
+    private final HoldExpiryService holdExpiryService;
+    private final BookingService bookingService;
+
+    @Value("${booking.holds.ttl:10m}")
+    private Duration ttl;
+
+    @Transactional(readOnly = true)
+    public Optional<SeatHoldDTO> getHold(Long id, Long userId) {
+        return seatHoldRepository.findById(id)
+                .filter(hold -> hold.getUserId().equals(userId))
+                .map(this::convertToDTO);
+    }
+
+    public SeatHoldDTO createHold(CreateHoldRequest request, Long userId) {
+        log.info("Creating seat hold for user {} - showtime: {}, seats: {}",
+                userId, request.getShowtimeId(), request.getNumberOfSeats());
+
+        ShowtimeDTO showtime;
+        try {
+            showtime = showtimeServiceClient.getShowtime(request.getShowtimeId());
+        } catch (Exception e) {
+            log.error("Error fetching showtime {}: {}", request.getShowtimeId(), e.getMessage());
+            throw new RuntimeException("Showtime not found or unavailable");
+        }
+
+        if (request.getSeats() != null && !request.getSeats().isEmpty()
+                && request.getSeats().size() != request.getNumberOfSeats()) {
+            throw new RuntimeException("Selected seats do not match number of seats");
+        }
+
+        if (showtime.getAvailableSeats() < request.getNumberOfSeats()) {
+            throw new RuntimeException("Not enough seats available");
+        }
+
+        List<String> seats = seatReservationService.reserve(request.getShowtimeId(), request.getNumberOfSeats(), request.getSeats());
+
+        SeatHold hold = SeatHold.builder()
+                .userId(userId)
+                .showtimeId(request.getShowtimeId())
+                .numberOfSeats(request.getNumberOfSeats())
+                .seatNumbers(joinSeats(seats))
+                .totalPrice(showtime.getTicketPrice().multiply(BigDecimal.valueOf(request.getNumberOfSeats())))
+                .status(SeatHold.HoldStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build();
+
+        SeatHold savedHold;
+        try {
+            savedHold = seatHoldRepository.saveAndFlush(hold);
+        } catch (Exception e) {
+            log.error("Error creating seat hold: {}", e.getMessage());
+            seatReservationService.release(request.getShowtimeId(), request.getNumberOfSeats(), seats);
+            throw new RuntimeException("Failed to create seat hold: " + e.getMessage());
+        }
+
+        // Only start the clock once the hold is visible to the expiry batch
+        afterCommit(() -> holdExpiryService.schedule(savedHold.getId(), savedHold.getExpiresAt()));
+        log.info("Created seat hold {} expiring at {}", savedHold.getId(), savedHold.getExpiresAt());
+        return convertToDTO(savedHold);
+    }
+
+    public BookingDTO confirmHold(Long id, Long userId) {
+        log.info("Confirming seat hold {} for user {}", id, userId);
+
+        SeatHold hold = findPendingHold(id, userId);
+        if (!hold.getExpiresAt().isAfter(LocalDateTime.now())) {
+            // The wheel will expire it on its next tick; refuse rather than race it
+            throw new RuntimeException("Seat hold has expired: " + id);
+        }
+
+        BookingDTO booking = bookingService.createBookingFromHold(hold);
+        hold.setStatus(SeatHold.HoldStatus.CONFIRMED);
+        hold.setBookingId(booking.getId());
+        seatHoldRepository.save(hold);
+
+        afterCommit(() -> holdExpiryService.cancel(id));
+        return booking;
+    }
+
+    public SeatHoldDTO releaseHold(Long id, Long userId) {
+        log.info("Releasing seat hold {} for user {}", id, userId);
+
+        SeatHold hold = findPendingHold(id, userId);
+        hold.setStatus(SeatHold.HoldStatus.RELEASED);
+        SeatHold releasedHold = seatHoldRepository.save(hold);
+
+        seatReservationService.releaseAfterCommit(hold.getShowtimeId(), hold.getNumberOfSeats(),
+                splitSeats(hold.getSeatNumbers()));
+        afterCommit(() -> holdExpiryService.cancel(id));
+        return convertToDTO(releasedHold);
+    }
+
+    private SeatHold findPendingHold(Long id, Long userId) {
+        SeatHold hold = seatHoldRepository.findPendingForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("No pending seat hold with id: " + id));
+        if (!hold.getUserId().equals(userId)) {
+            throw new RuntimeException("No pending seat hold with id: " + id);
+        }
+        return hold;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private SeatHoldDTO convertToDTO(SeatHold hold) {
+        return SeatHoldDTO.builder()
+                .id(hold.getId())
+                .userId(hold.getUserId())
+                .showtimeId(hold.getShowtimeId())
+                .numberOfSeats(hold.getNumberOfSeats())
+                .seats(splitSeats(hold.getSeatNumbers()))
+                .totalPrice(hold.getTotalPrice())
+                .status(hold.getStatus().name())
+                .expiresAt(hold.getExpiresAt())
+                .bookingId(hold.getBookingId())
+                .createdAt(hold.getCreatedAt())
+                .build();
+    }
+}
\ No newline at end of file
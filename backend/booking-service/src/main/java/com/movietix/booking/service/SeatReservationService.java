@@ -0,0 +1,80 @@
+package com.movietix.booking.service;
+
+import com.movietix.booking.client.SeatAssignmentDTO;
+import com.movietix.booking.client.SeatSelectionRequest;
+import com.movietix.booking.client.ShowtimeServiceClient;
+import feign.FeignException;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// Takes and returns seats on showtime-service for bookings and holds
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReservationService {
+
+    private final ShowtimeServiceClient showtimeServiceClient;
+
+    // Chosen seats, best available, or a plain count; returns the assigned seat labels
+    public List<String> reserve(Long showtimeId, Integer seats, List<String> selected) {
+        try {
+            SeatAssignmentDTO assignment = selected != null && !selected.isEmpty()
+                    ? showtimeServiceClient.claimSeats(showtimeId, new SeatSelectionRequest(selected))
+                    : showtimeServiceClient.bookSeats(showtimeId, seats);
+            return assignment != null && assignment.getSeats() != null ? assignment.getSeats() : List.of();
+        } catch (FeignException.Conflict e) {
+            throw new RuntimeException("Not enough seats available");
+        } catch (Exception e) {
+            log.error("Error reserving {} seats for showtime {}: {}", seats, showtimeId, e.getMessage());
+            throw new RuntimeException("Unable to reserve seats for showtime " + showtimeId);
+        }
+    }
+
+    public void release(Long showtimeId, Integer seats, List<String> labels) {
+        try {
+            releaseOrThrow(showtimeId, seats, labels);
+        } catch (Exception e) {
+            log.error("Error releasing {} seats for showtime {}: {}", seats, showtimeId, e.getMessage());
+        }
+    }
+
+    // For callers that must keep their own state until showtime-service has the seats back
+    public void releaseOrThrow(Long showtimeId, Integer seats, List<String> labels) {
+        releaseOrThrow(showtimeId, seats, labels, null);
+    }
+
+    // showtime-service applies a release with a given key once, however often it is sent
+    public void releaseOrThrow(Long showtimeId, Integer seats, List<String> labels, String releaseKey) {
+        showtimeServiceClient.releaseSeats(showtimeId, seats, releaseKey,
+                labels.isEmpty() ? null : new SeatSelectionRequest(labels));
+    }
+
+    // Seats go back only once the cancellation is durable
+    public void releaseAfterCommit(Long showtimeId, Integer seats, List<String> labels) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(showtimeId, seats, labels);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(showtimeId, seats, labels);
+            }
+        });
+    }
+
+    public static String joinSeats(List<String> seats) {
+        return seats.isEmpty() ? null : String.join(",", seats);
+    }
+
+    public static List<String> splitSeats(String seatNumbers) {
+        return seatNumbers == null || seatNumbers.isBlank() ? List.of() : List.of(seatNumbers.split(","));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.movietix.booking.service;
+
+import com.movietix.booking.client.ShowtimeDTO;
+import com.movietix.booking.client.ShowtimeServiceClient;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the showtimes needed to enrich a list of bookings with one bulk
+ * call per batch of distinct ids instead of one call per booking.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Slf4j
+public class ShowtimeLookupService {
+
+    // Below the 500 ids showtime-service takes per call, keeping the ?ids= query short
+    private static final int LOOKUP_BATCH_SIZE = 200;
+
+    private final ShowtimeServiceClient showtimeServiceClient;
+
+    // Missing or unreachable showtimes are left out of the result
+    public Map<Long, ShowtimeDTO> getShowtimes(Collection<Long> showtimeIds) {
+        Map<Long, ShowtimeDTO> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(showtimeIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size()));
+            try {
+                for (ShowtimeDTO showtime : showtimeServiceClient.getShowtimes(batch)) {
+                    result.put(showtime.getId(), showtime);
+                }
+            } catch (Exception e) {
+                log.warn("Error fetching details for {} showtimes: {}", batch.size(), e.getMessage());
+            }
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.movietix.booking.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck). Scheduling and cancelling are
+ * O(1): callers only enqueue, and the single ticking thread links and unlinks
+ * entries. Timers further out than the lowest wheel cascade down as time
+ * advances, so each timer is moved at most once per level.
+ *
+ * <p>{@link #advance(long)} must only ever be called from one thread.
+ */
+public final class HierarchicalTimerWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final Slot<T>[][] wheels;
+    private final Consumer<List<T>> expiryHandler;
+    private final Queue<Timeout<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelled = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis    resolution of the lowest wheel
+     * @param wheelBits     log2 of the number of slots per wheel
+     * @param levels        number of wheels; the range is tickMillis * 2^(wheelBits * levels)
+     * @param startMillis   time of tick zero
+     * @param expiryHandler receives the payloads that expired during one {@link #advance(long)} call
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimerWheel(long tickMillis, int wheelBits, int levels, long startMillis,
+                                  Consumer<List<T>> expiryHandler) {
+        if (tickMillis < 1 || wheelBits < 1 || levels < 1 || wheelBits * levels > 62) {
+            throw new IllegalArgumentException("Invalid timer wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.expiryHandler = expiryHandler;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new Slot[levels][1 << wheelBits];
+        for (Slot<T>[] wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Slot<>();
+            }
+        }
+    }
+
+    // Safe to call from any thread
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        // Round up so a timer never fires before its deadline
+        Timeout<T> timeout = new Timeout<>(payload, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    // Safe to call from any thread; a no-op if the timer already fired
+    public void cancel(Timeout<T> timeout) {
+        if (timeout != null && !timeout.cancelled) {
+            timeout.cancelled = true;
+            cancelled.add(timeout);
+        }
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis}, firing every timer whose
+     * deadline has passed. Expired payloads are handed over in one list.
+     */
+    public void advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+
+        drainCancelled();
+        drainScheduled(expired);
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Slot<T> slot = wheels[0][(int) (currentTick & wheelMask)];
+            for (Timeout<T> timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+                if (!timeout.cancelled) {
+                    expired.add(timeout.payload);
+                }
+            }
+        }
+
+        if (!expired.isEmpty()) {
+            expiryHandler.accept(expired);
+        }
+    }
+
+    private void drainScheduled(List<T> expired) {
+        for (Timeout<T> timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.deadlineTick <= currentTick) {
+                expired.add(timeout.payload);
+            } else {
+                place(timeout);
+            }
+        }
+    }
+
+    private void drainCancelled() {
+        for (Timeout<T> timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+            if (timeout.slot != null) {
+                timeout.slot.remove(timeout);
+            }
+        }
+    }
+
+    // When a lower wheel wraps, pull the matching slot of the wheel above down a level
+    private void cascade() {
+        for (int level = 1; level < wheels.length; level++) {
+            if ((currentTick & ((1L << (wheelBits * level)) - 1)) != 0) {
+                return;
+            }
+            Slot<T> slot = wheels[level][(int) ((currentTick >>> (wheelBits * level)) & wheelMask)];
+            for (Timeout<T> timeout = slot.poll(); timeout != null; timeout = slot.poll()) {
+                if (!timeout.cancelled) {
+                    place(timeout);
+                }
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = Math.max(timeout.deadlineTick - currentTick, 0);
+        int level = 0;
+        while (level < wheels.length - 1 && delta >= (1L << (wheelBits * (level + 1)))) {
+            level++;
+        }
+        // Beyond the top wheel's range: park in its furthest slot and re-place on cascade
+        long tick = level == wheels.length - 1 && delta >= (1L << (wheelBits * wheels.length))
+                ? currentTick + (1L << (wheelBits * wheels.length)) - (1L << (wheelBits * level))
+                : timeout.deadlineTick;
+        wheels[level][(int) ((tick >>> (wheelBits * level)) & wheelMask)].add(timeout);
+    }
+
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+        private Slot<T> slot;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+
+    // Intrusive doubly-linked list so a cancelled timeout is unlinked in O(1)
+    private static final class Slot<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.slot = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.slot = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.movietix.booking.reference;
+
+import com.movietix.booking.config.BookingReferenceConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingReferenceGeneratorTest {
+
+    private static final int IDS = 10_000_000;
+    private static final int THREADS = 8;
+
+    @Test
+    void tenMillionIdsFromConcurrentThreadsOnTwoNodesDoNotCollide() throws Exception {
+        BookingReferenceGenerator[] nodes = {new BookingReferenceGenerator(1), new BookingReferenceGenerator(2)};
+        int perThread = IDS / THREADS;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                BookingReferenceGenerator generator = nodes[t % nodes.length];
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            long[] all = new long[IDS];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get();
+                // Each thread sees its node's ids in increasing order
+                for (int i = 1; i < ids.length; i++) {
+                    assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                if (all[i] == all[i - 1]) {
+                    throw new AssertionError("Duplicate id " + all[i] + " (" + BookingReferenceGenerator.encode(all[i]) + ")");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void referencesSortLikeTheirIds() {
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(7);
+        String previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            String next = generator.next();
+            assertThat(next.substring(0, next.length() - 1)).isGreaterThan(previous.substring(0, previous.length() - 1));
+            previous = next;
+        }
+    }
+
+    @Test
+    void generatedReferencesAreValid() {
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(BookingReferenceGenerator.MAX_NODE_ID);
+        for (int i = 0; i < 10_000; i++) {
+            String reference = generator.next();
+            assertThat(reference).startsWith(BookingReferenceGenerator.PREFIX).hasSize(17);
+            assertThat(BookingReferenceGenerator.isValid(reference)).isTrue();
+            assertThat(BookingReferenceGenerator.isValid(reference.toLowerCase())).isTrue();
+        }
+    }
+
+    @Test
+    void everySingleSymbolTypoIsDetected() {
+        String reference = new BookingReferenceGenerator(3).next();
+        String symbols = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        for (int i = BookingReferenceGenerator.PREFIX.length(); i < reference.length() - 1; i++) {
+            for (char c : symbols.toCharArray()) {
+                if (c != reference.charAt(i)) {
+                    String typo = reference.substring(0, i) + c + reference.substring(i + 1);
+                    assertThat(BookingReferenceGenerator.isValid(typo)).as(typo).isFalse();
+                }
+            }
+        }
+    }
+
+    @Test
+    void malformedReferencesAreInvalid() {
+        String reference = new BookingReferenceGenerator(3).next();
+        assertThat(BookingReferenceGenerator.isValid(null)).isFalse();
+        assertThat(BookingReferenceGenerator.isValid("")).isFalse();
+        assertThat(BookingReferenceGenerator.isValid(reference.substring(1))).isFalse();
+        assertThat(BookingReferenceGenerator.isValid("XX" + reference.substring(2))).isFalse();
+        assertThat(BookingReferenceGenerator.isValid(reference.replace(reference.charAt(5), 'O'))).isFalse();
+    }
+
+    @Test
+    void nodeIdMustFitInTenBits() {
+        assertThatThrownBy(() -> new BookingReferenceGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BookingReferenceGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unsetNodeIdIsOnlyAllowedForASingleInstance() {
+        BookingReferenceConfig config = new BookingReferenceConfig();
+        assertThat(config.bookingReferenceGenerator(-1, 1)).isNotNull();
+        assertThat(config.bookingReferenceGenerator(5, 3)).isNotNull();
+        assertThatThrownBy(() -> config.bookingReferenceGenerator(-1, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("booking.reference.node-id");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.movietix.booking.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrentUserArgumentResolverTest {
+
+    private static final String SECRET = "myVerySecretKeyForJWTTokenGenerationThatShouldBeLongEnough";
+
+    @Test
+    void gatewayHeadersIdentifyTheCallerWithoutTheFallback() {
+        MockHttpServletRequest request = requestWithHeaders(7L);
+
+        assertThat(resolve(false, request)).isEqualTo(new UserIdentity(7L, "user7@x.test", "ROLE_USER"));
+    }
+
+    @Test
+    void fallbackPrefersTheVerifiedTokenOverHeaders() {
+        MockHttpServletRequest request = requestWithHeaders(7L);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token(42L, new Date(System.currentTimeMillis() + 60_000)));
+
+        assertThat(resolve(true, request)).isEqualTo(new UserIdentity(42L, "user42@x.test", "ROLE_USER"));
+    }
+
+    @Test
+    void fallbackIgnoresHeadersWithoutAToken() {
+        assertThat(resolve(true, requestWithHeaders(7L))).isNull();
+    }
+
+    @Test
+    void fallbackRejectsTokensWithoutAnExpiry() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token(42L, null));
+
+        assertThat(resolve(true, request)).isNull();
+    }
+
+    @Test
+    void fallbackRejectsExpiredTokens() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token(42L, new Date(System.currentTimeMillis() - 60_000)));
+
+        assertThat(resolve(true, request)).isNull();
+    }
+
+    private static Object resolve(boolean fallback, MockHttpServletRequest request) {
+        CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver(new LocalJwtVerifier(SECRET, fallback));
+        return resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+
+    private static MockHttpServletRequest requestWithHeaders(Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Id", String.valueOf(userId));
+        request.addHeader("X-User-Email", "user" + userId + "@x.test");
+        request.addHeader("X-User-Role", "ROLE_USER");
+        return request;
+    }
+
+    private static String token(Long userId, Date expiration) {
+        return Jwts.builder()
+                .setSubject("user" + userId + "@x.test")
+                .claim("userId", userId)
+                .claim("role", "ROLE_USER")
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.movietix.booking.service;
+
+import com.movietix.booking.entity.SeatHold;
+import com.movietix.booking.repository.SeatHoldRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HoldExpiryServiceTest {
+
+    private final SeatHoldRepository seatHoldRepository = mock(SeatHoldRepository.class);
+    private final SeatReservationService seatReservationService = mock(SeatReservationService.class);
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private final List<Boolean> releasedInTransaction = new ArrayList<>();
+    private HoldExpiryService holdExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            return mock(TransactionStatus.class);
+        });
+        doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+
+        holdExpiryService = new HoldExpiryService(seatHoldRepository, seatReservationService,
+                new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(holdExpiryService, "tick", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(holdExpiryService, "releaseRetryDelay", Duration.ofSeconds(30));
+        holdExpiryService.start();
+
+        doAnswer(invocation -> {
+            releasedInTransaction.add(inTransaction.get());
+            return null;
+        }).when(seatReservationService).releaseOrThrow(anyLong(), anyInt(), anyList(), anyString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        holdExpiryService.stop();
+    }
+
+    @Test
+    void holdsAreCommittedAsReleasingBeforeSeatsGoBack() {
+        List<SeatHold> holds = List.of(hold(12L, "A1,A2"), hold(11L, "B1"));
+        when(seatHoldRepository.findPendingForUpdate(anyCollection())).thenReturn(holds);
+        when(seatHoldRepository.findReleasing(11L)).thenReturn(holds);
+        when(seatHoldRepository.finishRelease(eq(11L), eq(SeatHold.HoldStatus.EXPIRED), any())).thenReturn(2);
+
+        holdExpiryService.expireBatch(List.of(11L, 12L));
+
+        assertThat(holds).allSatisfy(hold -> {
+            assertThat(hold.getStatus()).isEqualTo(SeatHold.HoldStatus.RELEASING);
+            assertThat(hold.getReleaseGroup()).isEqualTo(11L);
+        });
+        verify(seatReservationService).releaseOrThrow(7L, 3, List.of("A1", "A2", "B1"), "hold-11");
+        assertThat(releasedInTransaction).containsExactly(false);
+        verify(seatHoldRepository).finishRelease(eq(11L), eq(SeatHold.HoldStatus.EXPIRED), any());
+    }
+
+    @Test
+    void failedReleaseIsRetriedFromReleasingWithTheSameKey() {
+        List<SeatHold> holds = List.of(hold(11L, "A1"));
+        when(seatHoldRepository.findPendingForUpdate(anyCollection())).thenReturn(holds, List.of());
+        when(seatHoldRepository.findReleasing(11L)).thenReturn(holds);
+        doThrow(new RuntimeException("showtime-service down"))
+                .doNothing()
+                .when(seatReservationService).releaseOrThrow(anyLong(), anyInt(), anyList(), anyString());
+
+        holdExpiryService.expireBatch(List.of(11L));
+        verify(seatHoldRepository, never()).finishRelease(anyLong(), any(), any());
+
+        when(seatHoldRepository.findReleasingGroups(anyCollection())).thenReturn(List.of(11L));
+        holdExpiryService.expireBatch(List.of(11L));
+
+        verify(seatReservationService, times(2)).releaseOrThrow(7L, 1, List.of("A1"), "hold-11");
+        verify(seatHoldRepository).finishRelease(eq(11L), eq(SeatHold.HoldStatus.EXPIRED), any());
+    }
+
+    private static SeatHold hold(Long id, String seats) {
+        return SeatHold.builder()
+                .id(id)
+                .userId(3L)
+                .showtimeId(7L)
+                .numberOfSeats(seats.split(",").length)
+                .seatNumbers(seats)
+                .status(SeatHold.HoldStatus.PENDING)
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
\ No newline at end of file
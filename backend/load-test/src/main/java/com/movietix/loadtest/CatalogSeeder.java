@@ -0,0 +1,134 @@
+package com.movietix.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.movie.dto.MovieRequest;
+import com.movietix.movie.service.MovieService;
+import com.movietix.showtime.dto.CreateShowtimeRequest;
+import com.movietix.showtime.service.ShowtimeService;
+import com.movietix.theater.dto.TheaterRequest;
+import com.movietix.theater.service.TheaterService;
+import com.movietix.user.dto.RegisterRequest;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fills the stack with a reproducible catalog: movies, theaters with a seat layout
+ * and a week of showtimes are created through the service beans, customers are
+ * registered through the gateway so their tokens are real.
+ */
+public class CatalogSeeder {
+
+    static final List<String> GENRES = List.of("Action", "Comedy", "Drama", "Sci-Fi", "Horror", "Animation",
+            "Thriller", "Romance");
+
+    private static final List<String> LOCATIONS = List.of("Downtown", "Uptown", "Riverside", "Airport", "Old Town");
+    private static final int SEAT_ROWS = 12;
+    private static final int SEATS_PER_ROW = 20;
+
+    private final ServiceStack stack;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final Random random = new Random(42);
+
+    public CatalogSeeder(ServiceStack stack, HttpClient httpClient, ObjectMapper objectMapper, LoadTestOptions options) {
+        this.stack = stack;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.options = options;
+    }
+
+    public void seedCatalog() {
+        MovieService movieService = stack.bean("movie-service", MovieService.class);
+        TheaterService theaterService = stack.bean("theater-service", TheaterService.class);
+        ShowtimeService showtimeService = stack.bean("showtime-service", ShowtimeService.class);
+
+        List<Long> movieIds = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < options.movies(); i++) {
+            MovieRequest request = MovieRequest.builder()
+                    .title("Load Test Movie " + (i + 1))
+                    .genre(GENRES.get(random.nextInt(GENRES.size())))
+                    .durationInMinutes(80 + random.nextInt(100))
+                    .releaseDate(today.minusDays(random.nextInt(15 * 365)))
+                    .description("Seeded by the load test")
+                    .build();
+            movieIds.add(movieService.createMovie(request).getId());
+        }
+
+        List<Long> theaterIds = new ArrayList<>();
+        for (int i = 0; i < options.theaters(); i++) {
+            TheaterRequest request = TheaterRequest.builder()
+                    .name("Load Test Cinema " + (i + 1))
+                    .location(LOCATIONS.get(i % LOCATIONS.size()))
+                    .seatingCapacity(SEAT_ROWS * SEATS_PER_ROW)
+                    .seatRows(SEAT_ROWS)
+                    .seatsPerRow(SEATS_PER_ROW)
+                    .build();
+            theaterIds.add(theaterService.createTheater(request).getId());
+        }
+
+        // Evening slots over the next week
+        LocalDateTime firstShow = today.plusDays(1).atTime(18, 0);
+        for (Long movieId : movieIds) {
+            for (int i = 0; i < options.showtimesPerMovie(); i++) {
+                CreateShowtimeRequest request = CreateShowtimeRequest.builder()
+                        .movieId(movieId)
+                        .theaterId(theaterIds.get(random.nextInt(theaterIds.size())))
+                        .showDateTime(firstShow.plusDays(random.nextInt(7)).plus(30L * random.nextInt(10), ChronoUnit.MINUTES))
+                        .ticketPrice(BigDecimal.valueOf(800 + random.nextInt(800), 2))
+                        .availableSeats(SEAT_ROWS * SEATS_PER_ROW)
+                        .build();
+                showtimeService.createShowtime(request);
+            }
+        }
+    }
+
+    // Returns one bearer token per registered customer
+    public List<String> registerUsers() throws IOException {
+        List<CompletableFuture<String>> registrations = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            RegisterRequest request = RegisterRequest.builder()
+                    .name("Load Test User " + (i + 1))
+                    .email("load-test-" + (i + 1) + "@movietix.test")
+                    .password("load-test-password")
+                    .build();
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(stack.gatewayUrl() + "/api/auth/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+            registrations.add(httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(this::token));
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (CompletableFuture<String> registration : registrations) {
+            tokens.add(registration.join());
+        }
+        return tokens;
+    }
+
+    private String token(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Registration failed with status " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+        try {
+            return objectMapper.readTree(response.body()).path("token").asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable registration response", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.movietix.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts for one endpoint. Latency runs from the time a request
+ * was due to be sent, not when it actually went out, so a stalled stack shows up as
+ * latency instead of as fewer requests (no coordinated omission).
+ */
+public class EndpointStats {
+
+    // 1 microsecond to 1 minute at 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+    private final long measureFromNanos;
+    private final long measureUntilNanos;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public EndpointStats(String name, long measureFromNanos, long measureUntilNanos) {
+        this.name = name;
+        this.measureFromNanos = measureFromNanos;
+        this.measureUntilNanos = measureUntilNanos;
+    }
+
+    /**
+     * @param intendedStartNanos when the request should have been sent
+     * @param endNanos           when the response (or failure) arrived
+     * @param status             HTTP status, or 0 when no response arrived
+     */
+    public void record(long intendedStartNanos, long endNanos, int status) {
+        // Only requests due inside the measured window count; warmup and drain are left out
+        if (intendedStartNanos < measureFromNanos || intendedStartNanos >= measureUntilNanos) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos);
+        recorder.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status >= 400 && status < 500) {
+            clientErrors.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    // Call once, after the run
+    public LoadReport.Endpoint report(double measuredSeconds) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        long requests = histogram.getTotalCount();
+        return new LoadReport.Endpoint(
+                name,
+                requests,
+                requests / measuredSeconds,
+                ok.sum(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                failures.sum(),
+                new LoadReport.Latency(
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue())));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.movietix.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Open-model load: sessions arrive at a fixed rate whether or not earlier ones have
+ * finished, the way customers show up on a premiere night. Each session browses the
+ * catalog, lists the showtimes of one movie, opens a seat map and, for a share of
+ * sessions, books adjacent free seats from it.
+ */
+public class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final String baseUrl;
+    private final List<String> tokens;
+    private final ScheduledExecutorService thinkTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-test-think-time");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong booked = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private EndpointStats browse;
+    private EndpointStats showtimes;
+    private EndpointStats seatMap;
+    private EndpointStats book;
+
+    public LoadGenerator(HttpClient httpClient, ObjectMapper objectMapper, LoadTestOptions options, String baseUrl,
+                         List<String> tokens) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.tokens = tokens;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long measureUntil = measureFrom + options.duration().toNanos();
+        browse = new EndpointStats("browse", measureFrom, measureUntil);
+        showtimes = new EndpointStats("showtimes", measureFrom, measureUntil);
+        seatMap = new EndpointStats("seat-map", measureFrom, measureUntil);
+        book = new EndpointStats("book", measureFrom, measureUntil);
+
+        // Arrival times are fixed up front; if this thread falls behind, the lateness is counted as latency
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        for (long i = 0; ; i++) {
+            long arrival = start + (long) (i * intervalNanos);
+            if (arrival >= measureUntil) {
+                break;
+            }
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (arrival >= measureFrom) {
+                started.incrementAndGet();
+            }
+            new Session(arrival >= measureFrom).start(arrival);
+        }
+
+        long drainUntil = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(50);
+        }
+        thinkTimer.shutdownNow();
+
+        double measuredSeconds = options.duration().toNanos() / 1e9;
+        List<LoadReport.Endpoint> endpoints = new ArrayList<>();
+        for (EndpointStats stats : List.of(browse, showtimes, seatMap, book)) {
+            endpoints.add(stats.report(measuredSeconds));
+        }
+        return new LoadReport(options, new LoadReport.Sessions(started.get(), completed.get(), booked.get()), endpoints);
+    }
+
+    private final class Session {
+
+        private final boolean measured;
+        private final SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        private final String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+
+        private Session(boolean measured) {
+            this.measured = measured;
+        }
+
+        void start(long arrival) {
+            inFlight.incrementAndGet();
+            String path = "/api/movies/browse?size=20";
+            // Most visitors narrow the catalog down by genre first
+            if (random.nextInt(10) < 7) {
+                path += "&genre=" + CatalogSeeder.GENRES.get(random.nextInt(CatalogSeeder.GENRES.size()));
+            }
+            send(browse, get(path), arrival, page -> {
+                JsonNode items = page.path("items");
+                if (items.isEmpty()) {
+                    finish(false);
+                    return;
+                }
+                long movieId = items.get(random.nextInt(items.size())).path("id").asLong();
+                afterThinkTime(next -> listShowtimes(next, movieId));
+            });
+        }
+
+        private void listShowtimes(long intendedStart, long movieId) {
+            send(showtimes, get("/api/showtimes/movie/" + movieId), intendedStart, list -> {
+                List<JsonNode> open = new ArrayList<>();
+                list.forEach(showtime -> {
+                    if (showtime.path("availableSeats").asInt() > 0) {
+                        open.add(showtime);
+                    }
+                });
+                if (open.isEmpty()) {
+                    finish(false);
+                    return;
+                }
+                long showtimeId = open.get(random.nextInt(open.size())).path("id").asLong();
+                afterThinkTime(next -> openSeatMap(next, showtimeId));
+            });
+        }
+
+        private void openSeatMap(long intendedStart, long showtimeId) {
+            send(seatMap, get("/api/showtimes/" + showtimeId + "/seats"), intendedStart, map -> {
+                if (random.nextDouble() >= options.bookRatio()) {
+                    finish(false);
+                    return;
+                }
+                List<String> seats = pickSeats(map, 1 + random.nextInt(options.maxSeats()));
+                if (seats.isEmpty()) {
+                    finish(false);
+                    return;
+                }
+                afterThinkTime(next -> bookSeats(next, showtimeId, seats));
+            });
+        }
+
+        private void bookSeats(long intendedStart, long showtimeId, List<String> seats) {
+            ObjectNode body = objectMapper.createObjectNode()
+                    .put("showtimeId", showtimeId)
+                    .put("numberOfSeats", seats.size());
+            seats.forEach(body.putArray("seats")::add);
+            HttpRequest request = authorized("/api/bookings")
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build();
+            send(book, request, intendedStart, booking -> finish(true));
+        }
+
+        // Adjacent free seats in a random row, as a customer would pick them
+        private List<String> pickSeats(JsonNode map, int count) {
+            int rows = map.path("rows").asInt();
+            int seatsPerRow = map.path("seatsPerRow").asInt();
+            Set<String> taken = new HashSet<>();
+            map.path("takenSeats").forEach(seat -> taken.add(seat.asText()));
+
+            int firstRow = rows > 0 ? random.nextInt(rows) : 0;
+            for (int r = 0; r < rows; r++) {
+                String row = String.valueOf((char) ('A' + (firstRow + r) % rows));
+                int run = 0;
+                for (int number = 1; number <= seatsPerRow; number++) {
+                    run = taken.contains(row + number) ? 0 : run + 1;
+                    if (run == count) {
+                        List<String> seats = new ArrayList<>();
+                        for (int n = number - count + 1; n <= number; n++) {
+                            seats.add(row + n);
+                        }
+                        return seats;
+                    }
+                }
+            }
+            return List.of();
+        }
+
+        private void afterThinkTime(Consumer<Long> step) {
+            long intendedStart = System.nanoTime() + options.thinkTime().toNanos();
+            thinkTimer.schedule(() -> step.accept(intendedStart), options.thinkTime().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private void send(EndpointStats stats, HttpRequest request, long intendedStart, Consumer<JsonNode> next) {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, failure) -> {
+                int status = failure == null ? response.statusCode() : 0;
+                stats.record(intendedStart, System.nanoTime(), status);
+                if (status < 200 || status >= 300) {
+                    finish(false);
+                    return;
+                }
+                try {
+                    next.accept(objectMapper.readTree(response.body()));
+                } catch (Exception e) {
+                    finish(false);
+                }
+            });
+        }
+
+        private void finish(boolean booked) {
+            inFlight.decrementAndGet();
+            if (measured) {
+                completed.incrementAndGet();
+                if (booked) {
+                    LoadGenerator.this.booked.incrementAndGet();
+                }
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return authorized(path).GET().build();
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Authorization", "Bearer " + token);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.movietix.loadtest;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Result of one run, written as JSON next to the console table so runs can be compared.
+ */
+public record LoadReport(LoadTestOptions options, Sessions sessions, List<Endpoint> endpoints) {
+
+    public record Sessions(long started, long completed, long booked) {
+    }
+
+    public record Endpoint(String name, long requests, double throughput, long ok, long clientErrors,
+                           long serverErrors, long failures, Latency latencyMs) {
+    }
+
+    public record Latency(double p50, double p90, double p99, double p999, double max) {
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nSessions: %d started, %d completed, %d booked (%.0f/s for %s after %s warmup)%n",
+                sessions.started(), sessions.completed(), sessions.booked(),
+                options.rate(), options.duration(), options.warmup());
+        out.printf("%-10s %9s %9s %8s %8s %8s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s",
+                "2xx", "4xx", "5xx", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : endpoints) {
+            Latency latency = endpoint.latencyMs();
+            out.printf("%-10s %9d %9.1f %8d %8d %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint.name(),
+                    endpoint.requests(), endpoint.throughput(), endpoint.ok(), endpoint.clientErrors(),
+                    endpoint.serverErrors(), endpoint.failures(), latency.p50(), latency.p90(), latency.p99(),
+                    latency.p999(), latency.max());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.movietix.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line of the load test, e.g. {@code --rate=100 --duration=2m --warmup=20s}.
+ *
+ * @param rate              new user sessions started per second, independent of how fast the stack answers
+ * @param warmup            load applied before measuring starts
+ * @param duration          measured load after the warmup
+ * @param users             registered customers the sessions are spread over
+ * @param movies            movies in the seeded catalog
+ * @param theaters          theaters in the seeded catalog, each with a seat layout
+ * @param showtimesPerMovie showtimes seeded per movie over the next week
+ * @param bookRatio         share of sessions that go on to book after looking at the seat map
+ * @param maxSeats          upper bound of seats per booking
+ * @param thinkTime         pause between the steps of a session
+ * @param report            where the JSON report is written
+ */
+public record LoadTestOptions(double rate, Duration warmup, Duration duration, int users, int movies,
+                              int theaters, int showtimesPerMovie, double bookRatio, int maxSeats,
+                              Duration thinkTime, Path report) {
+
+    private static final Set<String> NAMES = Set.of("rate", "warmup", "duration", "users", "movies", "theaters",
+            "showtimes-per-movie", "book-ratio", "max-seats", "think-time", "report");
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            String value;
+            int equals = name.indexOf('=');
+            if (equals >= 0) {
+                value = name.substring(equals + 1);
+                name = name.substring(0, equals);
+            } else if (i + 1 < args.length) {
+                value = args[++i];
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + name);
+            }
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + NAMES);
+            }
+            values.put(name, value);
+        }
+
+        LoadTestOptions options = new LoadTestOptions(
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "15s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("movies", "200")),
+                Integer.parseInt(values.getOrDefault("theaters", "20")),
+                Integer.parseInt(values.getOrDefault("showtimes-per-movie", "6")),
+                Double.parseDouble(values.getOrDefault("book-ratio", "0.4")),
+                Integer.parseInt(values.getOrDefault("max-seats", "4")),
+                DurationStyle.detectAndParse(values.getOrDefault("think-time", "200ms")),
+                Path.of(values.getOrDefault("report", "target/load-test-report.json")));
+        if (options.rate <= 0 || options.users < 1 || options.movies < 1 || options.theaters < 1
+                || options.showtimesPerMovie < 1 || options.maxSeats < 1
+                || options.bookRatio < 0 || options.bookRatio > 1) {
+            throw new IllegalArgumentException("Invalid load test options: " + options);
+        }
+        return options;
+    }
+}
\ No newline at end of file
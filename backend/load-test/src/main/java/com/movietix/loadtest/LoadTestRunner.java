@@ -0,0 +1,57 @@
+package com.movietix.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Entry point: boots the whole stack in this JVM, seeds it, applies the load and
+ * prints per-endpoint throughput and latency percentiles. See {@link LoadTestOptions}
+ * for the command line.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // Six applications share one logback; keep Spring Boot from reconfiguring it for each of them
+        System.setProperty("org.springframework.boot.logging.LoggingSystem", "none");
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.println("Starting services...");
+        try (ServiceStack stack = ServiceStack.start()) {
+            System.out.println("Services up: " + stack.ports());
+
+            CatalogSeeder seeder = new CatalogSeeder(stack, httpClient, objectMapper, options);
+            seeder.seedCatalog();
+            List<String> tokens = seeder.registerUsers();
+            System.out.printf("Seeded %d movies, %d theaters, %d showtimes and %d users%n", options.movies(),
+                    options.theaters(), options.movies() * options.showtimesPerMovie(), tokens.size());
+
+            System.out.printf("Running %.0f sessions/s: %s warmup, %s measured%n", options.rate(), options.warmup(),
+                    options.duration());
+            LoadReport report = new LoadGenerator(httpClient, objectMapper, options, stack.gatewayUrl(), tokens).run();
+            report.print(System.out);
+
+            Path reportFile = options.report().toAbsolutePath();
+            Files.createDirectories(reportFile.getParent());
+            objectMapper.writeValue(reportFile.toFile(), report);
+            System.out.println("Report written to " + reportFile);
+        }
+        System.exit(0);
+    }
+}
\ No newline at end of file
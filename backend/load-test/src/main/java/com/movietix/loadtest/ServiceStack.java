@@ -0,0 +1,210 @@
+package com.movietix.loadtest;
+
+import com.movietix.booking.BookingServiceApplication;
+import com.movietix.gateway.ApiGatewayApplication;
+import com.movietix.movie.MovieServiceApplication;
+import com.movietix.showtime.ShowtimeServiceApplication;
+import com.movietix.theater.TheaterServiceApplication;
+import com.movietix.user.UserServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the gateway and every service in this JVM, each as its own Spring Boot
+ * application on a free port. Services keep their own application.yml; on top of it
+ * they get an in-memory H2 database, no Eureka or config-server, and static
+ * {@code services.*.url} values pointing at each other. The gateway's {@code lb://}
+ * routes and the Feign clients resolved by service name go through the simple
+ * discovery client instead of Eureka.
+ */
+@Slf4j
+public final class ServiceStack implements AutoCloseable {
+
+    private static final List<ServiceDefinition> SERVICES = List.of(
+            new ServiceDefinition("user-service", UserServiceApplication.class, true),
+            new ServiceDefinition("movie-service", MovieServiceApplication.class, false),
+            new ServiceDefinition("theater-service", TheaterServiceApplication.class, false),
+            new ServiceDefinition("showtime-service", ShowtimeServiceApplication.class, false),
+            new ServiceDefinition("booking-service", BookingServiceApplication.class, false));
+
+    private static final ServiceDefinition GATEWAY = new ServiceDefinition("api-gateway", ApiGatewayApplication.class, false);
+
+    // Spring Security is on the shared classpath for user-service only; keep it out of everything else
+    private static final String SERVLET_EXCLUDES = String.join(",",
+            "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration");
+
+    private static final String GATEWAY_EXCLUDES = String.join(",",
+            "org.springframework.boot.autoconfigure.security.reactive.ReactiveSecurityAutoConfiguration",
+            "org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration",
+            "org.springframework.boot.actuate.autoconfigure.security.reactive.ReactiveManagementWebSecurityAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration");
+
+    private final Map<String, ConfigurableApplicationContext> contexts = new LinkedHashMap<>();
+    private final Map<String, Integer> ports = new LinkedHashMap<>();
+
+    private ServiceStack() {
+    }
+
+    public static ServiceStack start() throws Exception {
+        ServiceStack stack = new ServiceStack();
+        try {
+            stack.boot();
+        } catch (Exception e) {
+            stack.close();
+            throw e;
+        }
+        return stack;
+    }
+
+    public String gatewayUrl() {
+        return "http://localhost:" + ports.get(GATEWAY.name());
+    }
+
+    public Map<String, Integer> ports() {
+        return ports;
+    }
+
+    public <T> T bean(String service, Class<T> type) {
+        return contexts.get(service).getBean(type);
+    }
+
+    @Override
+    public void close() {
+        List<String> names = new ArrayList<>(contexts.keySet());
+        for (int i = names.size() - 1; i >= 0; i--) {
+            try {
+                contexts.get(names.get(i)).close();
+            } catch (Exception e) {
+                log.warn("Error stopping {}: {}", names.get(i), e.getMessage());
+            }
+        }
+        contexts.clear();
+    }
+
+    private void boot() throws Exception {
+        for (ServiceDefinition service : SERVICES) {
+            ports.put(service.name(), freePort());
+        }
+        ports.put(GATEWAY.name(), freePort());
+
+        // The services only call each other once requests arrive, so they can start side by side
+        ExecutorService starter = Executors.newFixedThreadPool(SERVICES.size());
+        try {
+            Map<String, Future<ConfigurableApplicationContext>> starting = new LinkedHashMap<>();
+            for (ServiceDefinition service : SERVICES) {
+                starting.put(service.name(), starter.submit(() -> startService(service)));
+            }
+            for (Map.Entry<String, Future<ConfigurableApplicationContext>> entry : starting.entrySet()) {
+                contexts.put(entry.getKey(), entry.getValue().get());
+            }
+        } finally {
+            starter.shutdown();
+        }
+        contexts.put(GATEWAY.name(), startGateway());
+    }
+
+    private ConfigurableApplicationContext startService(ServiceDefinition service) throws IOException {
+        List<String> args = commonArgs(service);
+        args.add("--spring.datasource.url=jdbc:h2:mem:" + service.name() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        args.add("--spring.datasource.username=sa");
+        args.add("--spring.datasource.password=");
+        args.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        args.add("--spring.cloud.gateway.enabled=false");
+        if (!service.secured()) {
+            args.add("--spring.autoconfigure.exclude=" + SERVLET_EXCLUDES);
+        }
+        return new SpringApplicationBuilder(service.application())
+                .web(WebApplicationType.SERVLET)
+                .run(args.toArray(String[]::new));
+    }
+
+    private ConfigurableApplicationContext startGateway() throws IOException {
+        List<String> args = commonArgs(GATEWAY);
+        args.add("--spring.autoconfigure.exclude=" + GATEWAY_EXCLUDES);
+        // Every simulated customer registers and logs in from 127.0.0.1, which a per-address limit would throttle
+        args.add("--gateway.rate-limit.routes.user-service-auth.replenish-rate=100000");
+        args.add("--gateway.rate-limit.routes.user-service-auth.burst-capacity=100000");
+        return new SpringApplicationBuilder(GATEWAY.application(), GatewayServer.class)
+                .web(WebApplicationType.REACTIVE)
+                .run(args.toArray(String[]::new));
+    }
+
+    // Command line arguments outrank the service's own application.yml
+    private List<String> commonArgs(ServiceDefinition service) throws IOException {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.config.location=" + applicationYaml(service).toUri());
+        args.add("--server.port=" + ports.get(service.name()));
+        args.add("--spring.main.banner-mode=off");
+        args.add("--spring.cloud.config.enabled=false");
+        args.add("--spring.cloud.config.import-check.enabled=false");
+        args.add("--eureka.client.enabled=false");
+        for (ServiceDefinition target : SERVICES) {
+            args.add("--services." + target.name() + ".url=http://localhost:" + ports.get(target.name()));
+            // For lb:// routes and Feign clients resolved by service name
+            args.add("--spring.cloud.discovery.client.simple.instances." + target.name() + "[0].uri=http://localhost:"
+                    + ports.get(target.name()));
+        }
+        return args;
+    }
+
+    // Every module ships an application.yml at the classpath root; read the one next to the service's own classes
+    private static Path applicationYaml(ServiceDefinition service) throws IOException {
+        URL location = service.application().getProtectionDomain().getCodeSource().getLocation();
+        URL yaml = location.getPath().endsWith(".jar")
+                ? URI.create("jar:" + location + "!/application.yml").toURL()
+                : URI.create(location + "application.yml").toURL();
+        Path copy = Files.createTempFile(service.name() + "-", ".yml");
+        copy.toFile().deleteOnExit();
+        try (InputStream in = yaml.openStream()) {
+            Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return copy;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record ServiceDefinition(String name, Class<?> application, boolean secured) {
+    }
+
+    // Tomcat is on the classpath for the servlet services; the gateway still has to run on Netty
+    @Configuration(proxyBeanMethods = false)
+    static class GatewayServer {
+
+        @Bean
+        NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+    }
+}
\ No newline at end of file
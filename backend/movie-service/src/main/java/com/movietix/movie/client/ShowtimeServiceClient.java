@@ -0,0 +1,12 @@
+package com.movietix.movie.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = "showtime-service", url = "${services.showtime-service.url:http://localhost:8084}")
+public interface ShowtimeServiceClient {
+    
+    @DeleteMapping("/api/internal/cache/movies/{id}")
+    void evictMovie(@PathVariable("id") Long id);
+}
\ No newline at end of file
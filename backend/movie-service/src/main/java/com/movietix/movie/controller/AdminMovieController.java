@@ -39,21 +39,21 @@ public class AdminMovieController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get movie by ID (Admin)")
-    public ResponseEntity<MovieResponse> getMovieById(@PathVariable Long id) {
+    public ResponseEntity<MovieResponse> getMovieById(@PathVariable("id") Long id) {
         MovieResponse movie = movieService.getMovieById(id);
         return ResponseEntity.ok(movie);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update movie")
-    public ResponseEntity<MovieResponse> updateMovie(@PathVariable Long id, @Valid @RequestBody MovieRequest request) {
+    public ResponseEntity<MovieResponse> updateMovie(@PathVariable("id") Long id, @Valid @RequestBody MovieRequest request) {
         MovieResponse movie = movieService.updateMovie(id, request);
         return ResponseEntity.ok(movie);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete movie")
-    public ResponseEntity<Void> deleteMovie(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteMovie(@PathVariable("id") Long id) {
         movieService.deleteMovie(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,26 @@
+package com.movietix.movie.controller;
+
+import com.movietix.movie.dto.MovieSummary;
+import com.movietix.movie.service.MovieService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+// Batch lookup for showtime-service; not routed through the gateway
+@RestController
+@RequestMapping("/api/internal/movies")
+public class InternalMovieController {
+
+    private final MovieService movieService;
+
+    public InternalMovieController(MovieService movieService) {
+        this.movieService = movieService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<MovieSummary>> getMovieSummaries(@RequestParam("ids") Set<Long> ids) {
+        return ResponseEntity.ok(movieService.getMovieSummaries(ids));
+    }
+}
\ No newline at end of file
@@ -1,14 +1,17 @@
 package com.movietix.movie.controller;
 
+import com.movietix.movie.dto.MovieBrowseResponse;
 import com.movietix.movie.dto.MovieResponse;
 import com.movietix.movie.service.MovieService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,16 +30,31 @@ public class MovieController {
         return ResponseEntity.ok(movies);
     }
 
+    @GetMapping("/browse")
+    @Operation(summary = "Browse movies by facets", description = "Filter by genre, release window and duration bucket (under-90, 90-120, 120-150, 150-plus) with counts per facet value")
+    public ResponseEntity<MovieBrowseResponse> browseMovies(
+            @RequestParam(value = "genre", required = false) List<String> genre,
+            @RequestParam(value = "releasedFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releasedFrom,
+            @RequestParam(value = "releasedTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releasedTo,
+            @RequestParam(value = "duration", required = false) List<String> duration,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        MovieBrowseResponse response = movieService.browseMovies(genre, releasedFrom, releasedTo, duration, page, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get movie by ID")
-    public ResponseEntity<MovieResponse> getMovieById(@PathVariable Long id) {
+    public ResponseEntity<MovieResponse> getMovieById(@PathVariable("id") Long id) {
         MovieResponse movie = movieService.getMovieById(id);
         return ResponseEntity.ok(movie);
     }
 
     @GetMapping("/search")
     @Operation(summary = "Search movies by title")
-    public ResponseEntity<List<MovieResponse>> searchMovies(@RequestParam String title) {
+    public ResponseEntity<List<MovieResponse>> searchMovies(@RequestParam("title") String title) {
         List<MovieResponse> movies = movieService.searchMoviesByTitle(title);
         return ResponseEntity.ok(movies);
     }
@@ -0,0 +1,24 @@
+package com.movietix.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieBrowseResponse {
+    private List<MovieResponse> items;
+    private int total;
+    private int page;
+    private int size;
+    // Facet counts honour every filter except the facet's own
+    private Map<String, Integer> genres;
+    private Map<Integer, Integer> releaseYears;
+    private Map<String, Integer> durations;
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.movietix.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Column projection served to other services; leaves out the description
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieSummary {
+    private Long id;
+    private String title;
+    private Integer durationInMinutes;
+}
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.movietix.movie.repository;
 
+import com.movietix.movie.dto.MovieSummary;
 import com.movietix.movie.entity.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
     List<Movie> findByTitleContainingIgnoreCase(@Param("title") String title);
+
+    // Only the columns other services need; the TEXT description is never read
+    @Query("SELECT new com.movietix.movie.dto.MovieSummary(m.id, m.title, m.durationInMinutes) FROM Movie m WHERE m.id IN :ids")
+    List<MovieSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
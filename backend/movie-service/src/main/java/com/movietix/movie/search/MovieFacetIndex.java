@@ -0,0 +1,298 @@
+package com.movietix.movie.search;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet postings over the movie catalog: one BitSet of document slots per genre,
+ * release year and duration bucket, plus the per-slot keys kept in primitive
+ * arrays. A browse request combines the selected postings and then walks only
+ * the matching slots to page and count, so its cost follows the result size
+ * rather than the catalog size.
+ *
+ * <p>Thread-safe: browses share a read lock, updates take the write lock.
+ */
+public final class MovieFacetIndex {
+
+    public enum DurationBucket {
+        UNDER_90("under-90", 0, 90),
+        FROM_90_TO_120("90-120", 90, 120),
+        FROM_120_TO_150("120-150", 120, 150),
+        OVER_150("150-plus", 150, Integer.MAX_VALUE);
+
+        private final String label;
+        private final int fromMinutes;
+        private final int toMinutes;
+
+        DurationBucket(String label, int fromMinutes, int toMinutes) {
+            this.label = label;
+            this.fromMinutes = fromMinutes;
+            this.toMinutes = toMinutes;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static DurationBucket of(int minutes) {
+            for (DurationBucket bucket : values()) {
+                if (minutes >= bucket.fromMinutes && minutes < bucket.toMinutes) {
+                    return bucket;
+                }
+            }
+            return OVER_150;
+        }
+
+        public static DurationBucket fromLabel(String label) {
+            for (DurationBucket bucket : values()) {
+                if (bucket.label.equalsIgnoreCase(label)) {
+                    return bucket;
+                }
+            }
+            throw new IllegalArgumentException("Unknown duration bucket: " + label);
+        }
+    }
+
+    public record Query(Collection<String> genres, LocalDate releasedFrom, LocalDate releasedTo,
+                        Collection<DurationBucket> durations) {
+    }
+
+    // Page of movie ids, newest release first, with counts per facet value
+    public record Result(List<Long> ids, int total, Map<String, Integer> genreCounts,
+                         Map<Integer, Integer> releaseYearCounts, Map<DurationBucket, Integer> durationCounts) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private long[] ids = new long[64];
+    private int[] genreCodes = new int[64];
+    private int[] releaseDays = new int[64];
+    private int[] durations = new int[64];
+    private int nextSlot;
+
+    private final Map<String, Integer> genreCodesByKey = new HashMap<>();
+    private final Map<Integer, String> genreLabels = new HashMap<>();
+    private final Map<Integer, BitSet> byGenre = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> byReleaseYear = new TreeMap<>();
+    private final Map<DurationBucket, BitSet> byDuration = new EnumMap<>(DurationBucket.class);
+
+    public void put(long id, String genre, LocalDate releaseDate, int durationInMinutes) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.pop();
+            ensureCapacity(slot);
+
+            String label = genre == null ? "" : genre.trim();
+            int genreCode = genreCodesByKey.computeIfAbsent(label.toLowerCase(Locale.ROOT), key -> genreCodesByKey.size());
+            genreLabels.putIfAbsent(genreCode, label);
+
+            ids[slot] = id;
+            genreCodes[slot] = genreCode;
+            releaseDays[slot] = (int) releaseDate.toEpochDay();
+            durations[slot] = durationInMinutes;
+            slotsById.put(id, slot);
+            live.set(slot);
+            byGenre.computeIfAbsent(genreCode, code -> new BitSet()).set(slot);
+            byReleaseYear.computeIfAbsent(releaseDate.getYear(), year -> new BitSet()).set(slot);
+            byDuration.computeIfAbsent(DurationBucket.of(durationInMinutes), bucket -> new BitSet()).set(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Result browse(Query query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet genreFilter = genreFilter(query.genres());
+            BitSet releaseFilter = releaseFilter(query.releasedFrom(), query.releasedTo());
+            BitSet durationFilter = durationFilter(query.durations());
+
+            BitSet matches = and(live, genreFilter, releaseFilter, durationFilter);
+            int total = matches.cardinality();
+
+            // Each facet is counted with every filter except its own, so its other values stay selectable
+            Map<Integer, Integer> genreTally = new HashMap<>();
+            BitSet withoutGenre = and(live, releaseFilter, durationFilter);
+            for (int slot = withoutGenre.nextSetBit(0); slot >= 0; slot = withoutGenre.nextSetBit(slot + 1)) {
+                genreTally.merge(genreCodes[slot], 1, Integer::sum);
+            }
+            Map<String, Integer> genreCounts = new LinkedHashMap<>();
+            genreTally.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByValue().reversed())
+                    .forEach(entry -> genreCounts.put(genreLabels.get(entry.getKey()), entry.getValue()));
+
+            Map<Integer, Integer> releaseYearCounts = new TreeMap<>();
+            BitSet withoutRelease = and(live, genreFilter, durationFilter);
+            for (int slot = withoutRelease.nextSetBit(0); slot >= 0; slot = withoutRelease.nextSetBit(slot + 1)) {
+                releaseYearCounts.merge(LocalDate.ofEpochDay(releaseDays[slot]).getYear(), 1, Integer::sum);
+            }
+
+            Map<DurationBucket, Integer> durationCounts = new EnumMap<>(DurationBucket.class);
+            BitSet withoutDuration = and(live, genreFilter, releaseFilter);
+            for (int slot = withoutDuration.nextSetBit(0); slot >= 0; slot = withoutDuration.nextSetBit(slot + 1)) {
+                durationCounts.merge(DurationBucket.of(durations[slot]), 1, Integer::sum);
+            }
+
+            return new Result(page(matches, total, offset, limit), total, genreCounts, releaseYearCounts, durationCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Newest release first; each key packs the negated release day above the slot number
+    private List<Long> page(BitSet matches, int total, int offset, int limit) {
+        if (offset < 0 || offset >= total || limit < 1) {
+            return List.of();
+        }
+        long[] keys = new long[total];
+        int count = 0;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            keys[count++] = ((long) -releaseDays[slot] << 32) | slot;
+        }
+        Arrays.sort(keys);
+        int end = (int) Math.min((long) offset + limit, total);
+        Long[] page = new Long[end - offset];
+        for (int i = offset; i < end; i++) {
+            page[i - offset] = ids[(int) keys[i]];
+        }
+        return List.of(page);
+    }
+
+    // Null means "no filter" for that facet
+    private BitSet genreFilter(Collection<String> genres) {
+        if (genres == null || genres.isEmpty()) {
+            return null;
+        }
+        BitSet filter = new BitSet();
+        for (String genre : genres) {
+            // A genre keeps its code after its last movie is removed, but not its posting
+            Integer code = genreCodesByKey.get(genre.trim().toLowerCase(Locale.ROOT));
+            BitSet posting = code == null ? null : byGenre.get(code);
+            if (posting != null) {
+                filter.or(posting);
+            }
+        }
+        return filter;
+    }
+
+    private BitSet releaseFilter(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        int fromDay = from == null ? Integer.MIN_VALUE : (int) from.toEpochDay();
+        int toDay = to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+        int fromYear = from == null ? Integer.MIN_VALUE : from.getYear();
+        int toYear = to == null ? Integer.MAX_VALUE : to.getYear();
+
+        BitSet filter = new BitSet();
+        if (fromYear > toYear) {
+            return filter;
+        }
+        for (Map.Entry<Integer, BitSet> year : byReleaseYear.subMap(fromYear, true, toYear, true).entrySet()) {
+            BitSet posting = year.getValue();
+            if (year.getKey() > fromYear && year.getKey() < toYear) {
+                filter.or(posting);
+                continue;
+            }
+            // Boundary years are only partly inside the window
+            for (int slot = posting.nextSetBit(0); slot >= 0; slot = posting.nextSetBit(slot + 1)) {
+                if (releaseDays[slot] >= fromDay && releaseDays[slot] <= toDay) {
+                    filter.set(slot);
+                }
+            }
+        }
+        return filter;
+    }
+
+    private BitSet durationFilter(Collection<DurationBucket> buckets) {
+        if (buckets == null || buckets.isEmpty()) {
+            return null;
+        }
+        BitSet filter = new BitSet();
+        for (DurationBucket bucket : buckets) {
+            BitSet posting = byDuration.get(bucket);
+            if (posting != null) {
+                filter.or(posting);
+            }
+        }
+        return filter;
+    }
+
+    private static BitSet and(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private void removeLocked(long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        clearPosting(byGenre, genreCodes[slot], slot);
+        clearPosting(byReleaseYear, LocalDate.ofEpochDay(releaseDays[slot]).getYear(), slot);
+        clearPosting(byDuration, DurationBucket.of(durations[slot]), slot);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clearPosting(Map<K, BitSet> postings, K key, int slot) {
+        BitSet posting = postings.get(key);
+        if (posting != null) {
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private void ensureCapacity(int slot) {
+        if (slot < ids.length) {
+            return;
+        }
+        int capacity = Math.max(ids.length * 2, slot + 1);
+        ids = Arrays.copyOf(ids, capacity);
+        genreCodes = Arrays.copyOf(genreCodes, capacity);
+        releaseDays = Arrays.copyOf(releaseDays, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.movietix.movie.search;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram index over titles. Each word is padded ("  star ") so that
+ * leading trigrams also serve prefix queries. A search counts shared trigrams per
+ * title from the postings lists, then ranks exact, prefix, word-prefix and
+ * substring matches ahead of fuzzy ones; fuzzy matches need at least half of the
+ * query's trigrams, which tolerates a typo or two in a word.
+ *
+ * <p>Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public final class TitleSearchIndex<T> {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double MIN_FUZZY_COVERAGE = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final List<Entry<T>> entries = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, BitSet> postings = new HashMap<>();
+
+    public void put(Long id, String title, T document) {
+        String normalized = normalize(title);
+        long[] grams = trigrams(normalized);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int slot = freeSlots.isEmpty() ? entries.size() : freeSlots.pop();
+            Entry<T> entry = new Entry<>(id, normalized, grams, document);
+            if (slot == entries.size()) {
+                entries.add(entry);
+            } else {
+                entries.set(slot, entry);
+            }
+            slotsById.put(id, slot);
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, g -> new BitSet()).set(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches for {@code query}, most relevant first.
+     */
+    public List<T> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        long[] queryGrams = trigrams(normalized);
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidates(queryGrams);
+            // One or two letters only produce word-start trigrams; pick up mid-word hits directly
+            if (normalized.length() < 3) {
+                for (int slot = 0; slot < entries.size(); slot++) {
+                    Entry<T> entry = entries.get(slot);
+                    if (entry != null && entry.title.contains(normalized)) {
+                        candidates.set(slot);
+                    }
+                }
+            }
+
+            List<BitSet> queryPostings = new ArrayList<>(queryGrams.length);
+            for (long gram : queryGrams) {
+                BitSet posting = postings.get(gram);
+                if (posting != null) {
+                    queryPostings.add(posting);
+                }
+            }
+
+            List<Match<T>> matches = new ArrayList<>();
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                Entry<T> entry = entries.get(slot);
+                int shared = 0;
+                for (BitSet posting : queryPostings) {
+                    if (posting.get(slot)) {
+                        shared++;
+                    }
+                }
+                double score = score(entry, normalized, queryGrams.length, shared);
+                if (score > 0) {
+                    matches.add(new Match<>(entry, score));
+                }
+            }
+            matches.sort(Comparator.<Match<T>>comparingDouble(match -> -match.score)
+                    .thenComparingInt(match -> match.entry.title.length())
+                    .thenComparing(match -> match.entry.id));
+            return matches.stream()
+                    .limit(limit)
+                    .map(match -> match.entry.document)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Titles that can reach a positive score, without scanning every posting in full.
+     * A fuzzy match shares at least {@code need} of the n query trigrams, so by
+     * pigeonhole it appears in one of the n - need + 1 shortest postings lists. Any
+     * substring match contains every trigram that lies inside a query word, so the
+     * intersection of those lists covers exact, prefix and substring hits.
+     */
+    private BitSet candidates(long[] queryGrams) {
+        List<BitSet> found = new ArrayList<>();
+        List<BitSet> inner = new ArrayList<>();
+        boolean innerMissing = false;
+        for (long gram : queryGrams) {
+            BitSet posting = postings.get(gram);
+            if (posting != null) {
+                found.add(posting);
+            }
+            if (isInner(gram)) {
+                if (posting == null) {
+                    innerMissing = true;
+                } else {
+                    inner.add(posting);
+                }
+            }
+        }
+
+        BitSet candidates = new BitSet();
+        int need = Math.max(1, (int) Math.ceil(queryGrams.length * MIN_FUZZY_COVERAGE));
+        int missing = queryGrams.length - found.size();
+        int lists = queryGrams.length - need + 1 - missing;
+        if (lists > 0) {
+            found.sort(Comparator.comparingInt(BitSet::cardinality));
+            for (BitSet posting : found.subList(0, Math.min(lists, found.size()))) {
+                candidates.or(posting);
+            }
+        }
+
+        if (!inner.isEmpty() && !innerMissing) {
+            inner.sort(Comparator.comparingInt(BitSet::cardinality));
+            BitSet all = (BitSet) inner.get(0).clone();
+            for (int i = 1; i < inner.size() && !all.isEmpty(); i++) {
+                all.and(inner.get(i));
+            }
+            candidates.or(all);
+        }
+        return candidates;
+    }
+
+    private static boolean isInner(long gram) {
+        return (gram & 0xFFFF) != ' ' && ((gram >>> 16) & 0xFFFF) != ' ' && ((gram >>> 32) & 0xFFFF) != ' ';
+    }
+
+    // Match tier (exact > prefix > word prefix > substring > fuzzy) plus trigram overlap within the tier
+    private static double score(Entry<?> entry, String query, int queryGrams, int shared) {
+        double coverage = queryGrams == 0 ? 0 : (double) shared / queryGrams;
+        double jaccard = (double) shared / (queryGrams + entry.grams.length - shared);
+        double tier;
+        if (entry.title.equals(query)) {
+            tier = 5;
+        } else if (entry.title.startsWith(query)) {
+            tier = 4;
+        } else if (entry.title.contains(" " + query)) {
+            tier = 3;
+        } else if (entry.title.contains(query)) {
+            tier = 2;
+        } else if (coverage >= MIN_FUZZY_COVERAGE) {
+            tier = 0;
+        } else {
+            return 0;
+        }
+        return tier + 0.8 * coverage + 0.2 * jaccard;
+    }
+
+    private void removeLocked(Long id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Entry<T> entry = entries.set(slot, null);
+        for (long gram : entry.grams) {
+            BitSet posting = postings.get(gram);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        freeSlots.push(slot);
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    // Distinct trigrams of every word padded as "  word ", each packed into a long
+    static long[] trigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return grams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private record Entry<T>(Long id, String title, long[] grams, T document) {
+    }
+
+    private record Match<T>(Entry<T> entry, double score) {
+    }
+}
\ No newline at end of file
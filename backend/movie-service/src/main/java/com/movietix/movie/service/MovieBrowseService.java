@@ -0,0 +1,57 @@
+package com.movietix.movie.service;
+
+import com.movietix.movie.dto.MovieResponse;
+import com.movietix.movie.search.MovieFacetIndex;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Faceted catalog browse (genre, release window, duration) served from
+ * in-memory facet postings. Loaded and refreshed alongside the title search
+ * index; committed changes are applied incrementally.
+ */
+@Service
+@Timed("service.method")
+@Slf4j
+public class MovieBrowseService {
+
+    private volatile MovieFacetIndex index;
+
+    // Null until the first load
+    public MovieFacetIndex.Result browse(MovieFacetIndex.Query query, int offset, int limit) {
+        MovieFacetIndex current = index;
+        return current == null ? null : current.browse(query, offset, limit);
+    }
+
+    public void replaceAll(List<MovieResponse> movies) {
+        MovieFacetIndex rebuilt = new MovieFacetIndex();
+        movies.forEach(movie -> put(rebuilt, movie));
+        index = rebuilt;
+        log.info("Indexed {} movies for faceted browse", rebuilt.size());
+    }
+
+    // Called by MovieService once the change is committed
+    public void movieSaved(MovieResponse movie) {
+        MovieFacetIndex current = index;
+        if (current != null) {
+            put(current, movie);
+        }
+    }
+
+    public void movieDeleted(Long id) {
+        MovieFacetIndex current = index;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+
+    private static void put(MovieFacetIndex index, MovieResponse movie) {
+        if (movie.getReleaseDate() == null || movie.getDurationInMinutes() == null) {
+            return;
+        }
+        index.put(movie.getId(), movie.getGenre(), movie.getReleaseDate(), movie.getDurationInMinutes());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.movietix.movie.service;
+
+import com.movietix.movie.dto.MovieResponse;
+import com.movietix.movie.search.TitleSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Title search served from an in-memory trigram index instead of a LIKE scan.
+ * MovieService loads the index at startup and reports every committed change;
+ * it is also reloaded periodically so instances pick up each other's writes.
+ */
+@Service
+@Timed("service.method")
+@Slf4j
+public class MovieSearchService {
+
+    private final int maxResults;
+    private volatile TitleSearchIndex<MovieResponse> index;
+
+    public MovieSearchService(@Value("${movies.search.max-results:50}") int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    // Null until the first load, so callers can fall back to the database
+    public List<MovieResponse> search(String title) {
+        TitleSearchIndex<MovieResponse> current = index;
+        return current == null ? null : current.search(title, maxResults);
+    }
+
+    public void replaceAll(List<MovieResponse> movies) {
+        TitleSearchIndex<MovieResponse> rebuilt = new TitleSearchIndex<>();
+        movies.forEach(movie -> rebuilt.put(movie.getId(), movie.getTitle(), movie));
+        index = rebuilt;
+        log.info("Indexed {} movie titles for search", rebuilt.size());
+    }
+
+    // Called by MovieService once the change is committed
+    public void movieSaved(MovieResponse movie) {
+        TitleSearchIndex<MovieResponse> current = index;
+        if (current != null) {
+            current.put(movie.getId(), movie.getTitle(), movie);
+        }
+    }
+
+    public void movieDeleted(Long id) {
+        TitleSearchIndex<MovieResponse> current = index;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+}
\ No newline at end of file
@@ -1,25 +1,62 @@
 package com.movietix.movie.service;
 
+import com.movietix.movie.dto.MovieBrowseResponse;
 import com.movietix.movie.dto.MovieRequest;
 import com.movietix.movie.dto.MovieResponse;
+import com.movietix.movie.dto.MovieSummary;
 import com.movietix.movie.entity.Movie;
 import com.movietix.movie.exception.MovieNotFoundException;
 import com.movietix.movie.repository.MovieRepository;
+import com.movietix.movie.search.MovieFacetIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class MovieService {
 
+    private static final int MAX_BROWSE_PAGE_SIZE = 100;
+    private static final int MAX_LOOKUP_IDS = 500;
+
     private final MovieRepository movieRepository;
+    private final ShowtimeCacheInvalidator showtimeCacheInvalidator;
+    private final MovieSearchService movieSearchService;
+    private final MovieBrowseService movieBrowseService;
+    private final ReadCoalescer readCoalescer;
+
+    // Load the title search and browse indexes at startup and refresh them so other instances' writes show up
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${movies.search.refresh-interval:5m}", fixedDelayString = "${movies.search.refresh-interval:5m}")
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        List<MovieResponse> movies = movieRepository.findAll().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        movieSearchService.replaceAll(movies);
+        movieBrowseService.replaceAll(movies);
+    }
 
     public MovieResponse createMovie(MovieRequest request) {
         log.info("Creating movie with title: {}", request.getTitle());
@@ -35,24 +72,31 @@ public class MovieService {
         Movie savedMovie = movieRepository.save(movie);
         log.info("Movie created successfully with ID: {}", savedMovie.getId());
         
-        return mapToResponse(savedMovie);
+        MovieResponse response = mapToResponse(savedMovie);
+        indexSaved(response);
+        return response;
     }
 
-    @Transactional(readOnly = true)
+    // Coalesced reads run in ReadCoalescer's transaction; waiting callers hold no connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<MovieResponse> getAllMovies() {
-        log.info("Fetching all movies");
-        List<Movie> movies = movieRepository.findAll();
-        return movies.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return readCoalescer.read("all-movies", () -> {
+            log.info("Fetching all movies");
+            List<Movie> movies = movieRepository.findAll();
+            return movies.stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MovieResponse getMovieById(Long id) {
-        log.info("Fetching movie with ID: {}", id);
-        Movie movie = movieRepository.findById(id)
-                .orElseThrow(() -> new MovieNotFoundException("Movie not found with ID: " + id));
-        return mapToResponse(movie);
+        return readCoalescer.read("movie:" + id, () -> {
+            log.info("Fetching movie with ID: {}", id);
+            Movie movie = movieRepository.findById(id)
+                    .orElseThrow(() -> new MovieNotFoundException("Movie not found with ID: " + id));
+            return mapToResponse(movie);
+        });
     }
 
     public MovieResponse updateMovie(Long id, MovieRequest request) {
@@ -69,8 +113,11 @@ public class MovieService {
 
         Movie savedMovie = movieRepository.save(movie);
         log.info("Movie updated successfully with ID: {}", savedMovie.getId());
+        showtimeCacheInvalidator.movieChanged(savedMovie.getId());
         
-        return mapToResponse(savedMovie);
+        MovieResponse response = mapToResponse(savedMovie);
+        indexSaved(response);
+        return response;
     }
 
     public void deleteMovie(Long id) {
@@ -82,17 +129,106 @@ public class MovieService {
 
         movieRepository.deleteById(id);
         log.info("Movie deleted successfully with ID: {}", id);
+        showtimeCacheInvalidator.movieChanged(id);
+        indexDeleted(id);
     }
 
     @Transactional(readOnly = true)
     public List<MovieResponse> searchMoviesByTitle(String title) {
         log.info("Searching movies with title containing: {}", title);
+        List<MovieResponse> indexed = movieSearchService.search(title);
+        if (indexed != null) {
+            return indexed;
+        }
         List<Movie> movies = movieRepository.findByTitleContainingIgnoreCase(title);
         return movies.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MovieBrowseResponse browseMovies(List<String> genres, LocalDate releasedFrom, LocalDate releasedTo,
+                                            List<String> durations, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_BROWSE_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_BROWSE_PAGE_SIZE);
+        }
+        List<Object> key = Arrays.asList("browse", genres, releasedFrom, releasedTo, durations, page, size);
+        return readCoalescer.read(key, () -> loadBrowsePage(genres, releasedFrom, releasedTo, durations, page, size));
+    }
+
+    private MovieBrowseResponse loadBrowsePage(List<String> genres, LocalDate releasedFrom, LocalDate releasedTo,
+                                               List<String> durations, int page, int size) {
+        List<MovieFacetIndex.DurationBucket> buckets = durations == null ? List.of()
+                : durations.stream().map(MovieFacetIndex.DurationBucket::fromLabel).toList();
+        MovieFacetIndex.Query query = new MovieFacetIndex.Query(genres, releasedFrom, releasedTo, buckets);
+
+        // page * size can overflow an int; any offset past the matches is simply an empty page
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        MovieFacetIndex.Result result = movieBrowseService.browse(query, offset, size);
+        if (result == null) {
+            rebuildSearchIndex();
+            result = movieBrowseService.browse(query, offset, size);
+        }
+
+        // Only the requested page is loaded; findAllById does not keep order
+        Map<Long, Movie> movies = movieRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        List<MovieResponse> items = result.ids().stream()
+                .map(movies::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return MovieBrowseResponse.builder()
+                .items(items)
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .genres(result.genreCounts())
+                .releaseYears(result.releaseYearCounts())
+                .durations(result.durationCounts().entrySet().stream()
+                        .collect(Collectors.toMap(entry -> entry.getKey().getLabel(), Map.Entry::getValue,
+                                (a, b) -> a, LinkedHashMap::new)))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MovieSummary> getMovieSummaries(Collection<Long> ids) {
+        log.info("Fetching summaries for {} movies", ids.size());
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_LOOKUP_IDS + " movie ids per request");
+        }
+        return ids.isEmpty() ? List.of() : movieRepository.findSummariesByIdIn(ids);
+    }
+
+    // Both indexes are updated by one callback, and only after the change is committed
+    private void indexSaved(MovieResponse movie) {
+        afterCommit(() -> {
+            movieSearchService.movieSaved(movie);
+            movieBrowseService.movieSaved(movie);
+        });
+    }
+
+    private void indexDeleted(Long id) {
+        afterCommit(() -> {
+            movieSearchService.movieDeleted(id);
+            movieBrowseService.movieDeleted(id);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private MovieResponse mapToResponse(Movie movie) {
         return MovieResponse.builder()
                 .id(movie.getId())
@@ -0,0 +1,16 @@
+package com.movietix.outbox;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Outbox table, relay and event bus. A service imports this next to its
+ * application class; the outbox entity and repository then join the service's own
+ * JPA scan, and the relay runs once the service enables scheduling.
+ */
+@Configuration
+@ComponentScan
+@AutoConfigurationPackage
+public class OutboxConfiguration {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.movietix.outbox.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change published from the outbox. {@code id} increases with commit order per
+ * service and is stable across redeliveries, so consumers can drop duplicates.
+ */
+public record DomainEvent(Long id, String aggregateType, Long aggregateId, String type,
+                          String payload, LocalDateTime occurredAt) {
+}
\ No newline at end of file
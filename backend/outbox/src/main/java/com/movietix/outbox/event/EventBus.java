@@ -0,0 +1,16 @@
+package com.movietix.outbox.event;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Destination of the outbox relay. Delivery is at-least-once: a batch that fails
+ * to publish is retried. The in-process implementation is the default; another
+ * broker plugs in by providing its own bean and setting {@code events.bus}.
+ */
+public interface EventBus {
+
+    void publish(List<DomainEvent> events);
+
+    void subscribe(String aggregateType, Consumer<DomainEvent> subscriber);
+}
\ No newline at end of file
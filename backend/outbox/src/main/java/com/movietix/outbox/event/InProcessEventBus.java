@@ -0,0 +1,36 @@
+package com.movietix.outbox.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Embedded broker: delivers each batch to in-process subscribers on the relay thread,
+ * in order. A subscriber that throws fails the publish, so the relay rolls the batch
+ * back and redelivers all of it; subscribers must therefore tolerate duplicates.
+ */
+@Component
+@ConditionalOnProperty(name = "events.bus", havingValue = "in-process", matchIfMissing = true)
+public class InProcessEventBus implements EventBus {
+
+    private final Map<String, List<Consumer<DomainEvent>>> subscribers = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            for (Consumer<DomainEvent> subscriber : subscribers.getOrDefault(event.aggregateType(), List.of())) {
+                subscriber.accept(event);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String aggregateType, Consumer<DomainEvent> subscriber) {
+        subscribers.computeIfAbsent(aggregateType, type -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.movietix.outbox.repository;
+
+import com.movietix.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // Oldest unpublished events; SKIP LOCKED (lock timeout -2) lets several instances relay without blocking each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findUnpublishedForUpdate(Pageable pageable);
+    
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :now WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.movietix.outbox.service;
+
+import com.movietix.outbox.entity.OutboxEvent;
+import com.movietix.outbox.event.DomainEvent;
+import com.movietix.outbox.event.EventBus;
+import com.movietix.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains outbox_events to the EventBus in id order. Each batch is locked,
+ * published and marked in one transaction, so a failed publish leaves the rows
+ * to be retried on the next poll.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventBus eventBus;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${events.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${events.outbox.retention:1d}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${events.outbox.poll-interval:500ms}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> relayBatch());
+            } while (published != null && published == batchSize);
+        } catch (Exception e) {
+            log.error("Error relaying outbox events, will retry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.purge-interval:1h}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.debug("Purged {} published outbox events", deleted);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findUnpublishedForUpdate(PageRequest.ofSize(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        eventBus.publish(batch.stream().map(OutboxRelay::toDomainEvent).toList());
+        outboxEventRepository.markPublished(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+        log.debug("Relayed {} outbox events", batch.size());
+        return batch.size();
+    }
+
+    private static DomainEvent toDomainEvent(OutboxEvent event) {
+        return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
\ No newline at end of file
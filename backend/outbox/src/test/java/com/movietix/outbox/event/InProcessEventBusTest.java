@@ -0,0 +1,53 @@
+package com.movietix.outbox.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InProcessEventBusTest {
+
+    private final InProcessEventBus eventBus = new InProcessEventBus();
+
+    @Test
+    void deliversEventsInOrderToSubscribersOfTheirAggregateType() {
+        List<Long> showtimes = new ArrayList<>();
+        List<Long> bookings = new ArrayList<>();
+        eventBus.subscribe("Showtime", event -> showtimes.add(event.id()));
+        eventBus.subscribe("Booking", event -> bookings.add(event.id()));
+
+        eventBus.publish(List.of(event(1, "Showtime"), event(2, "Booking"), event(3, "Showtime")));
+
+        assertThat(showtimes).containsExactly(1L, 3L);
+        assertThat(bookings).containsExactly(2L);
+    }
+
+    @Test
+    void eventsWithoutSubscribersAreDropped() {
+        eventBus.publish(List.of(event(1, "Movie")));
+    }
+
+    @Test
+    void failingSubscriberFailsThePublish() {
+        List<Long> delivered = new ArrayList<>();
+        eventBus.subscribe("Showtime", event -> {
+            if (event.id() == 2) {
+                throw new IllegalStateException("subscriber down");
+            }
+            delivered.add(event.id());
+        });
+
+        assertThatThrownBy(() -> eventBus.publish(List.of(event(1, "Showtime"), event(2, "Showtime"), event(3, "Showtime"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("subscriber down");
+        assertThat(delivered).containsExactly(1L);
+    }
+
+    private static DomainEvent event(long id, String aggregateType) {
+        return new DomainEvent(id, aggregateType, 10L, aggregateType + "Updated", "{}", LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.movietix.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.outbox.OutboxConfiguration;
+import com.movietix.outbox.entity.OutboxEvent;
+import com.movietix.outbox.event.EventBus;
+import com.movietix.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Outbox, relay and in-process bus together on an in-memory H2 database
+@SpringBootTest(properties = "events.outbox.batch-size=2")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void relaysEventsInCommitOrderAcrossBatchesAndMarksThemPublished() {
+        List<Long> delivered = new ArrayList<>();
+        eventBus.subscribe("Ordered", event -> delivered.add(event.aggregateId()));
+        for (long id = 1; id <= 5; id++) {
+            record("Ordered", id);
+        }
+
+        outboxRelay.relay();
+
+        assertThat(delivered).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() != null);
+    }
+
+    @Test
+    void batchWithFailingSubscriberIsRedeliveredOnNextPoll() {
+        List<Long> delivered = new ArrayList<>();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        eventBus.subscribe("Flaky", event -> {
+            delivered.add(event.aggregateId());
+            if (event.aggregateId() == 2 && failing.get()) {
+                throw new IllegalStateException("subscriber down");
+            }
+        });
+        record("Flaky", 1);
+        record("Flaky", 2);
+
+        outboxRelay.relay();
+
+        assertThat(delivered).containsExactly(1L, 2L);
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() == null);
+
+        failing.set(false);
+        outboxRelay.relay();
+
+        // At-least-once: event 1 is delivered again with the rest of its batch
+        assertThat(delivered).containsExactly(1L, 2L, 1L, 2L);
+        assertThat(outboxEventRepository.findAll()).allMatch(event -> event.getPublishedAt() != null);
+    }
+
+    @Test
+    void redeliveredEventsKeepTheirIds() {
+        List<Long> ids = new ArrayList<>();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        eventBus.subscribe("Retried", event -> {
+            ids.add(event.id());
+            if (failing.getAndSet(false)) {
+                throw new IllegalStateException("subscriber down");
+            }
+        });
+        record("Retried", 1);
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        assertThat(ids).hasSize(2).containsOnly(ids.get(0));
+    }
+
+    @Test
+    void recordingOutsideATransactionIsRejected() {
+        assertThatThrownBy(() -> outboxService.record("Ordered", 1L, "Created", Map.of()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    private void record(String aggregateType, long aggregateId) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxService.record(aggregateType, aggregateId, "Created", Map.of("id", aggregateId)));
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(OutboxConfiguration.class)
+    static class TestApplication {
+
+        // The services get theirs from Spring MVC, which this module does not depend on
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.movietix.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.outbox.entity.OutboxEvent;
+import com.movietix.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OutboxServiceTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OutboxService outboxService = new OutboxService(outboxEventRepository, new ObjectMapper());
+
+    @Test
+    void recordsUnpublishedEventWithJsonPayload() {
+        outboxService.record("Showtime", 7L, "ShowtimeDeleted", Map.of("id", 7));
+
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        OutboxEvent event = saved.getValue();
+        assertThat(event.getAggregateType()).isEqualTo("Showtime");
+        assertThat(event.getAggregateId()).isEqualTo(7L);
+        assertThat(event.getEventType()).isEqualTo("ShowtimeDeleted");
+        assertThat(event.getPayload()).isEqualTo("{\"id\":7}");
+        assertThat(event.getCreatedAt()).isNotNull();
+        assertThat(event.getPublishedAt()).isNull();
+    }
+
+    @Test
+    void payloadThatCannotBeSerializedFailsTheChange() {
+        assertThatThrownBy(() -> outboxService.record("Showtime", 7L, "ShowtimeUpdated", new Object()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ShowtimeUpdated");
+        verify(outboxEventRepository, never()).save(any());
+    }
+}
\ No newline at end of file
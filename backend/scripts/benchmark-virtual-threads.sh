@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# Compares throughput and p99 latency of one service running on platform threads
+# and on virtual threads. The service is started twice from its jar with
+# spring.threads.virtual.enabled=false/true and loaded with `hey` each time.
+#
+# Requirements: a Java 21+ runtime, hey (https://github.com/rakyll/hey), the
+# service jar built (mvn -pl <service> package), and whatever the endpoint calls
+# already running (MySQL, eureka, downstream services).
+#
+# Usage:
+#   scripts/benchmark-virtual-threads.sh [service] [port] [path] [concurrency] [duration]
+#
+# Example, booking history (one JPA query plus one Feign call to showtime-service):
+#   scripts/benchmark-virtual-threads.sh booking-service 8085 /api/bookings/my-bookings 400 60s
+#
+# Extra request headers can be passed with HEADERS, e.g. HEADERS="X-User-Id: 1".
+
+set -euo pipefail
+
+SERVICE=${1:-booking-service}
+PORT=${2:-8085}
+REQUEST_PATH=${3:-/api/bookings/my-bookings}
+CONCURRENCY=${4:-400}
+DURATION=${5:-60s}
+WARMUP=${WARMUP:-15s}
+HEADERS=${HEADERS:-X-User-Id: 1}
+
+cd "$(dirname "$0")/.."
+JAR=$(ls "$SERVICE"/target/"$SERVICE"-*.jar | grep -v -- '-plain\|-sources' | head -n 1)
+URL="http://localhost:$PORT$REQUEST_PATH"
+
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+java -version 2>&1 | grep -Eq 'version "(2[1-9]|[3-9][0-9])' || echo "warning: virtual threads need Java 21+, results will not differ" >&2
+
+wait_for_health() {
+    for _ in $(seq 1 120); do
+        if curl -fs "http://localhost:$PORT/actuator/health" >/dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "$SERVICE did not become healthy" >&2
+    return 1
+}
+
+run_mode() {
+    local virtual=$1
+    local log="/tmp/$SERVICE-virtual-$virtual.log"
+
+    java -jar "$JAR" --spring.threads.virtual.enabled="$virtual" >"$log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+
+    wait_for_health
+    hey -z "$WARMUP" -c "$CONCURRENCY" -H "$HEADERS" "$URL" >/dev/null
+
+    local report
+    report=$(hey -z "$DURATION" -c "$CONCURRENCY" -H "$HEADERS" "$URL")
+    local rps p99 errors
+    rps=$(awk '/Requests\/sec/ {print $2}' <<<"$report")
+    p99=$(awk '/99% in/ {print $3 * 1000}' <<<"$report")
+    errors=$(awk '/Status code distribution/ {on=1; next} on && /\[/ && $1 !~ /\[2/ {n += $2} END {print n + 0}' <<<"$report")
+    printf '%-10s %12s %12s %10s\n' "$([ "$virtual" = true ] && echo virtual || echo platform)" "$rps" "$p99" "$errors"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+echo "$SERVICE  $URL  concurrency=$CONCURRENCY  duration=$DURATION"
+printf '%-10s %12s %12s %10s\n' "threads" "req/s" "p99 (ms)" "non-2xx"
+run_mode false
+run_mode true
@@ -1,13 +1,18 @@
 package com.movietix.showtime;
 
+import com.movietix.outbox.OutboxConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableFeignClients
 @EnableJpaAuditing
+@EnableScheduling
+@Import(OutboxConfiguration.class)
 public class ShowtimeServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ShowtimeServiceApplication.class, args);
@@ -12,10 +12,5 @@ import lombok.NoArgsConstructor;
 public class MovieDTO {
     private Long id;
     private String title;
-    private String description;
-    private String genre;
     private Integer durationInMinutes;
-    private String releaseDate;
-    private String posterUrl;
-    private String trailerUrl;
 }
\ No newline at end of file
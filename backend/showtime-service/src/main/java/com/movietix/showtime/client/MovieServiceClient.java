@@ -2,14 +2,15 @@ package com.movietix.showtime.client;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "movie-service", url = "${services.movie-service.url:http://localhost:8083}")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "movie-service")
 public interface MovieServiceClient {
     
-    @GetMapping("/api/movies/{id}")
-    MovieDTO getMovie(@PathVariable("id") Long id);
-    
-    @GetMapping("/api/movies/{id}/title")
-    String getMovieTitle(@PathVariable("id") Long id);
+    // Projection lookup: unknown ids are simply absent from the result
+    @GetMapping("/api/internal/movies")
+    List<MovieDTO> getMovies(@RequestParam("ids") Collection<Long> ids);
 }
\ No newline at end of file
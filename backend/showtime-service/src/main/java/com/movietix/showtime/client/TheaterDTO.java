@@ -14,4 +14,6 @@ public class TheaterDTO {
     private String name;
     private String location;
     private Integer seatingCapacity;
+    private Integer seatRows;
+    private Integer seatsPerRow;
 }
\ No newline at end of file
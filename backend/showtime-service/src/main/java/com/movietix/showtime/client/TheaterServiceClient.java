@@ -2,17 +2,15 @@ package com.movietix.showtime.client;
 
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "theater-service", url = "${services.theater-service.url:http://localhost:8084}")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "theater-service")
 public interface TheaterServiceClient {
     
-    @GetMapping("/api/theaters/{id}")
-    TheaterDTO getTheater(@PathVariable("id") Long id);
-    
-    @GetMapping("/api/theaters/{id}/name")
-    String getTheaterName(@PathVariable("id") Long id);
-    
-    @GetMapping("/api/theaters/{id}/capacity")
-    Integer getTheaterCapacity(@PathVariable("id") Long id);
+    // Projection lookup: unknown ids are simply absent from the result
+    @GetMapping("/api/internal/theaters")
+    List<TheaterDTO> getTheaters(@RequestParam("ids") Collection<Long> ids);
 }
\ No newline at end of file
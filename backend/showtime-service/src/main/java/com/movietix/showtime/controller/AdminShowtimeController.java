@@ -8,8 +8,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -23,10 +25,20 @@ public class AdminShowtimeController {
         this.showtimeService = showtimeService;
     }
 
+    // Deprecated: bounded to the first page; use /api/showtimes/page or /export
+    @Deprecated
     @GetMapping
     public ResponseEntity<List<ShowtimeDTO>> getAllShowtimes() {
-        List<ShowtimeDTO> showtimes = showtimeService.getAllShowtimes();
-        return ResponseEntity.ok(showtimes);
+        return ShowtimeController.firstPage(showtimeService.getAllShowtimes(), "/api/showtimes/page");
+    }
+
+    // Newline-delimited JSON, written while rows are read from the database
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportShowtimes() {
+        StreamingResponseBody body = showtimeService::exportShowtimes;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     @PostMapping
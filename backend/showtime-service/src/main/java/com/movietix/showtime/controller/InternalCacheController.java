@@ -0,0 +1,34 @@
+package com.movietix.showtime.controller;
+
+import com.movietix.showtime.service.CatalogLookupService;
+import com.movietix.showtime.service.ShowtimeCardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Invalidation hooks called by movie-service and theater-service after admin writes
+@RestController
+@RequestMapping("/api/internal/cache")
+public class InternalCacheController {
+
+    private final CatalogLookupService catalogLookupService;
+    private final ShowtimeCardService showtimeCardService;
+
+    public InternalCacheController(CatalogLookupService catalogLookupService, ShowtimeCardService showtimeCardService) {
+        this.catalogLookupService = catalogLookupService;
+        this.showtimeCardService = showtimeCardService;
+    }
+
+    @DeleteMapping("/movies/{id}")
+    public ResponseEntity<Void> evictMovie(@PathVariable("id") Long id) {
+        catalogLookupService.evictMovie(id);
+        showtimeCardService.movieChanged(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/theaters/{id}")
+    public ResponseEntity<Void> evictTheater(@PathVariable("id") Long id) {
+        catalogLookupService.evictTheater(id);
+        showtimeCardService.theaterChanged(id);
+        return ResponseEntity.noContent().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.movietix.showtime.controller;
+
+import com.movietix.showtime.dto.SeatAssignmentDTO;
+import com.movietix.showtime.dto.SeatSelectionRequest;
+import com.movietix.showtime.service.ShowtimeService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Seat changes made by booking-service on behalf of a booking or hold; not routed through the gateway
+@RestController
+@RequestMapping("/api/internal/showtimes")
+public class InternalShowtimeController {
+
+    private final ShowtimeService showtimeService;
+
+    public InternalShowtimeController(ShowtimeService showtimeService) {
+        this.showtimeService = showtimeService;
+    }
+
+    @PutMapping("/{id}/book-seats")
+    public ResponseEntity<SeatAssignmentDTO> bookSeats(@PathVariable("id") Long id, @RequestParam("seats") Integer seats) {
+        SeatAssignmentDTO assignment = showtimeService.bookSeats(id, seats);
+        return ResponseEntity.ok(assignment);
+    }
+
+    @PutMapping("/{id}/release-seats")
+    public ResponseEntity<Void> releaseSeats(
+            @PathVariable("id") Long id,
+            @RequestParam("seats") Integer seats,
+            // Repeats of a release sent with the same key are skipped
+            @RequestParam(value = "releaseKey", required = false) String releaseKey,
+            // Labels travel in the body: an expiry batch can release thousands of them at once
+            @RequestBody(required = false) SeatSelectionRequest labels) {
+        showtimeService.releaseSeats(id, seats, labels != null ? labels.getSeats() : null, releaseKey);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{id}/seats/claim")
+    public ResponseEntity<SeatAssignmentDTO> claimSeats(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody SeatSelectionRequest request) {
+        SeatAssignmentDTO assignment = showtimeService.claimSelectedSeats(id, request.getSeats());
+        return ResponseEntity.ok(assignment);
+    }
+
+    @PutMapping("/{id}/seats/release")
+    public ResponseEntity<SeatAssignmentDTO> releaseSelectedSeats(
+            @PathVariable("id") Long id,
+            @Valid @RequestBody SeatSelectionRequest request) {
+        SeatAssignmentDTO assignment = showtimeService.releaseSelectedSeats(id, request.getSeats());
+        return ResponseEntity.ok(assignment);
+    }
+}
\ No newline at end of file
@@ -1,27 +1,64 @@
 package com.movietix.showtime.controller;
 
+import com.movietix.showtime.dto.CursorPage;
+import com.movietix.showtime.dto.SeatMapDTO;
+import com.movietix.showtime.dto.ShowtimeCardDTO;
 import com.movietix.showtime.dto.ShowtimeDTO;
+import com.movietix.showtime.service.ShowtimeCardService;
 import com.movietix.showtime.service.ShowtimeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/showtimes")
 public class ShowtimeController {
 
     private final ShowtimeService showtimeService;
+    private final ShowtimeCardService showtimeCardService;
 
-    public ShowtimeController(ShowtimeService showtimeService) {
+    public ShowtimeController(ShowtimeService showtimeService, ShowtimeCardService showtimeCardService) {
         this.showtimeService = showtimeService;
+        this.showtimeCardService = showtimeCardService;
     }
 
+    // Deprecated: bounded to the first page; use /page or the admin export
+    @Deprecated
     @GetMapping
     public ResponseEntity<List<ShowtimeDTO>> getAllShowtimes() {
-        List<ShowtimeDTO> showtimes = showtimeService.getAllShowtimes();
+        return firstPage(showtimeService.getAllShowtimes(), "/api/showtimes/page");
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ShowtimeDTO>> getShowtimesByIds(@RequestParam("ids") Set<Long> ids) {
+        List<ShowtimeDTO> showtimes = showtimeService.getShowtimesByIds(ids);
+        return ResponseEntity.ok(showtimes);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<ShowtimeDTO>> getShowtimesPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        CursorPage<ShowtimeDTO> page = showtimeService.getShowtimesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/now-showing")
+    public ResponseEntity<List<ShowtimeCardDTO>> getNowShowing(
+            @RequestParam("location") String location,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        List<ShowtimeCardDTO> showtimes = showtimeCardService.getNowShowing(location, date != null ? date : LocalDate.now());
         return ResponseEntity.ok(showtimes);
     }
 
@@ -51,4 +88,26 @@ public class ShowtimeController {
         List<ShowtimeDTO> showtimes = showtimeService.getShowtimesByTheaterId(theaterId);
         return ResponseEntity.ok(showtimes);
     }
+
+    @GetMapping("/{id}/seats")
+    public ResponseEntity<SeatMapDTO> getSeatMap(@PathVariable("id") Long id) {
+        SeatMapDTO seatMap = showtimeService.getSeatMap(id);
+        return ResponseEntity.ok(seatMap);
+    }
+
+    // Server-Sent Events: "seats" events carrying availableSeats and the delta since the previous event
+    @GetMapping(value = "/{id}/seat-feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getSeatFeed(@PathVariable("id") Long id) {
+        return showtimeService.subscribeSeatFeed(id);
+    }
+
+    // Old clients of the unpaged listing get the first page as a plain list, with a Link to the next one
+    static <T> ResponseEntity<List<T>> firstPage(CursorPage<T> page, String pagePath) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+        if (page.isHasMore()) {
+            response.header(HttpHeaders.LINK, "<" + pagePath + "?cursor="
+                    + URLEncoder.encode(page.getNextCursor(), StandardCharsets.UTF_8) + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.movietix.showtime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatAssignmentDTO {
+    private Long showtimeId;
+    // Empty for showtimes without a seat layout
+    private List<String> seats;
+}
\ No newline at end of file
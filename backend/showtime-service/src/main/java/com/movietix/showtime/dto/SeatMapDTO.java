@@ -0,0 +1,20 @@
+package com.movietix.showtime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatMapDTO {
+    private Long showtimeId;
+    private Integer rows;
+    private Integer seatsPerRow;
+    private Integer availableSeats;
+    private List<String> takenSeats;
+}
\ No newline at end of file
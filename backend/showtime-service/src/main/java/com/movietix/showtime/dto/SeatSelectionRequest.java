@@ -0,0 +1,18 @@
+package com.movietix.showtime.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatSelectionRequest {
+    @NotEmpty(message = "At least one seat is required")
+    private List<String> seats;
+}
\ No newline at end of file
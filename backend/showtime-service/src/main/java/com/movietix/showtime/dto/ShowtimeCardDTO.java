@@ -0,0 +1,24 @@
+package com.movietix.showtime.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowtimeCardDTO {
+    private Long showtimeId;
+    private Long movieId;
+    private String movieTitle;
+    private Long theaterId;
+    private String theaterName;
+    private String location;
+    private LocalDateTime showDateTime;
+    private BigDecimal ticketPrice;
+}
\ No newline at end of file
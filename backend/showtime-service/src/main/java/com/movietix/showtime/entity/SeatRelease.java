@@ -0,0 +1,40 @@
+package com.movietix.showtime.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Key of a release already applied, so a caller retrying the same release gets no seats twice
+@Entity
+@Table(name = "seat_releases")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatRelease implements Persistable<String> {
+    @Id
+    @Column(name = "release_key", nullable = false, length = 100)
+    private String releaseKey;
+
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public String getId() {
+        return releaseKey;
+    }
+
+    // Always inserted, so a concurrent duplicate fails on the primary key instead of being merged
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
\ No newline at end of file
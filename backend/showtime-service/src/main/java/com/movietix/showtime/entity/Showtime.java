@@ -13,7 +13,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "showtimes")
+@Table(name = "showtimes", indexes = @Index(name = "idx_showtimes_show_date_time_id", columnList = "show_date_time, id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -39,6 +39,17 @@ public class Showtime {
     @Column(name = "available_seats", nullable = false)
     private Integer availableSeats;
 
+    // Capacity; released seats never take availableSeats above it. Null on showtimes created before it was kept
+    @Column(name = "total_seats")
+    private Integer totalSeats;
+
+    // Seat layout copied from the theater at creation; null for count-only showtimes
+    @Column(name = "seat_rows")
+    private Integer seatRows;
+
+    @Column(name = "seats_per_row")
+    private Integer seatsPerRow;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
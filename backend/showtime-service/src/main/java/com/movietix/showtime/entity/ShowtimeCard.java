@@ -0,0 +1,51 @@
+package com.movietix.showtime.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Denormalized showtime with the movie title and theater name/location already joined;
+// maintained by ShowtimeCardService and served as-is by the "now showing" listing
+@Entity
+@Table(name = "showtime_cards", indexes = @Index(name = "idx_showtime_cards_date_location",
+        columnList = "show_date, location, show_date_time"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowtimeCard {
+    // Same id as the showtime it describes
+    @Id
+    @Column(name = "showtime_id")
+    private Long showtimeId;
+
+    @Column(name = "show_date", nullable = false)
+    private LocalDate showDate;
+
+    @Column(name = "location")
+    private String location;
+
+    @Column(name = "show_date_time", nullable = false)
+    private LocalDateTime showDateTime;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "movie_title")
+    private String movieTitle;
+
+    @Column(name = "theater_id", nullable = false)
+    private Long theaterId;
+
+    @Column(name = "theater_name")
+    private String theaterName;
+
+    @Column(name = "ticket_price", nullable = false, precision = 10, scale = 2)
+    private BigDecimal ticketPrice;
+}
\ No newline at end of file
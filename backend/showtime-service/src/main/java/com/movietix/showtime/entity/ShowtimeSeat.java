@@ -0,0 +1,47 @@
+package com.movietix.showtime.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+// One row per taken seat; written in batches by SeatPersistenceWriter
+@Entity
+@Table(name = "showtime_seats")
+@IdClass(ShowtimeSeat.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowtimeSeat implements Persistable<ShowtimeSeat.Key> {
+    @Id
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+
+    @Id
+    @Column(name = "seat_index", nullable = false)
+    private Integer seatIndex;
+
+    @Override
+    public Key getId() {
+        return new Key(showtimeId, seatIndex);
+    }
+
+    // Rows are only ever inserted or deleted, so skip the merge-time SELECT
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long showtimeId;
+        private Integer seatIndex;
+    }
+}
\ No newline at end of file
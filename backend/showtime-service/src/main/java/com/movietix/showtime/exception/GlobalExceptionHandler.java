@@ -7,6 +7,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -16,6 +17,43 @@ import java.util.Map;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(ShowtimeNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleShowtimeNotFound(ShowtimeNotFoundException e) {
+        log.error("Showtime not found: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", e.getMessage());
+    }
+
+    // Unmapped paths, such as the seat endpoints that moved under /api/internal
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleNoResourceFound(NoResourceFoundException e) {
+        log.warn("No endpoint for {} {}", e.getHttpMethod(), e.getResourcePath());
+        return buildErrorResponse(HttpStatus.NOT_FOUND, "Not Found", e.getMessage());
+    }
+
+    @ExceptionHandler(InsufficientSeatsException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientSeats(InsufficientSeatsException e) {
+        log.warn("Seat request rejected: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+    }
+
+    @ExceptionHandler(SeatUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleSeatUnavailable(SeatUnavailableException e) {
+        log.warn("Seat request rejected: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+    }
+
+    @ExceptionHandler(SeatPersistenceBacklogException.class)
+    public ResponseEntity<Map<String, Object>> handleSeatPersistenceBacklog(SeatPersistenceBacklogException e) {
+        log.warn("Seat request rejected: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        log.error("Invalid request: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Bad Request", e.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException e) {
         log.error("Runtime exception occurred: {}", e.getMessage(), e);
@@ -62,4 +100,14 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
+
+    private ResponseEntity<Map<String, Object>> buildErrorResponse(HttpStatus status, String error, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", status.value());
+        errorResponse.put("error", error);
+        errorResponse.put("message", message);
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.movietix.showtime.exception;
+
+public class SeatPersistenceBacklogException extends RuntimeException {
+    public SeatPersistenceBacklogException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
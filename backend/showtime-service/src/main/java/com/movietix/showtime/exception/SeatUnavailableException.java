@@ -0,0 +1,7 @@
+package com.movietix.showtime.exception;
+
+public class SeatUnavailableException extends RuntimeException {
+    public SeatUnavailableException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.movietix.showtime.exception;
+
+public class ShowtimeNotFoundException extends RuntimeException {
+    public ShowtimeNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
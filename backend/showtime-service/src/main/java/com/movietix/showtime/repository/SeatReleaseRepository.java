@@ -0,0 +1,18 @@
+package com.movietix.showtime.repository;
+
+import com.movietix.showtime.entity.SeatRelease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SeatReleaseRepository extends JpaRepository<SeatRelease, String> {
+    
+    @Modifying
+    @Query("DELETE FROM SeatRelease r WHERE r.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
\ No newline at end of file
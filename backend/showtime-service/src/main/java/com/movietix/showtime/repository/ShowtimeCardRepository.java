@@ -0,0 +1,36 @@
+package com.movietix.showtime.repository;
+
+import com.movietix.showtime.entity.ShowtimeCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ShowtimeCardRepository extends JpaRepository<ShowtimeCard, Long> {
+    
+    // Served straight off idx_showtime_cards_date_location
+    @Query("SELECT c FROM ShowtimeCard c WHERE c.showDate = :showDate AND c.location = :location AND c.showDateTime >= :from ORDER BY c.showDateTime ASC")
+    List<ShowtimeCard> findNowShowing(@Param("showDate") LocalDate showDate, @Param("location") String location, @Param("from") LocalDateTime from);
+    
+    // One row of movie id and title per distinct pair on upcoming cards
+    @Query("SELECT DISTINCT c.movieId, c.movieTitle FROM ShowtimeCard c WHERE c.showDateTime > :from")
+    List<Object[]> findUpcomingMovieTitles(@Param("from") LocalDateTime from);
+    
+    // One row of theater id, name and location per distinct combination on upcoming cards
+    @Query("SELECT DISTINCT c.theaterId, c.theaterName, c.location FROM ShowtimeCard c WHERE c.showDateTime > :from")
+    List<Object[]> findUpcomingTheaters(@Param("from") LocalDateTime from);
+    
+    @Modifying
+    @Query("UPDATE ShowtimeCard c SET c.movieTitle = :title WHERE c.movieId = :movieId")
+    int updateMovieTitle(@Param("movieId") Long movieId, @Param("title") String title);
+    
+    @Modifying
+    @Query("UPDATE ShowtimeCard c SET c.theaterName = :name, c.location = :location WHERE c.theaterId = :theaterId")
+    int updateTheater(@Param("theaterId") Long theaterId, @Param("name") String name, @Param("location") String location);
+}
\ No newline at end of file
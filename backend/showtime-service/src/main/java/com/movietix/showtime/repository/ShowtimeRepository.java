@@ -1,13 +1,20 @@
 package com.movietix.showtime.repository;
 
 import com.movietix.showtime.entity.Showtime;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
@@ -35,4 +42,40 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
     // Find showtimes by theater ID and date range
     @Query("SELECT s FROM Showtime s WHERE s.theaterId = :theaterId AND s.showDateTime BETWEEN :start AND :end ORDER BY s.showDateTime ASC")
     List<Showtime> findByTheaterIdAndDateRange(@Param("theaterId") Long theaterId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // Atomically take seats from a count-only showtime; matches no row (returns 0) when
+    // fewer than :seats remain or the showtime is sold by seat
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Showtime s SET s.availableSeats = s.availableSeats - :seats, s.updatedAt = :now WHERE s.id = :id AND s.availableSeats >= :seats AND s.seatRows IS NULL")
+    int decrementAvailableSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+    
+    // Return seats released by a cancelled booking; matches nothing if that would exceed the showtime's capacity
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Showtime s SET s.availableSeats = s.availableSeats + :seats, s.updatedAt = :now WHERE s.id = :id AND (s.totalSeats IS NULL OR s.availableSeats + :seats <= s.totalSeats)")
+    int incrementAvailableSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+    
+    // Apply the net seat change flushed from an in-memory seat map
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Showtime s SET s.availableSeats = s.availableSeats + :delta, s.updatedAt = :now WHERE s.id = :id")
+    int adjustAvailableSeats(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+    
+    // Showtimes with a seat layout that have not started yet
+    @Query("SELECT s FROM Showtime s WHERE s.seatRows IS NOT NULL AND s.showDateTime > :currentTime")
+    List<Showtime> findUpcomingSeatedShowtimes(@Param("currentTime") LocalDateTime currentTime);
+    
+    // Keyset pagination on (showDateTime, id): first page, then everything after the last row seen
+    @Query("SELECT s FROM Showtime s ORDER BY s.showDateTime ASC, s.id ASC")
+    List<Showtime> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT s FROM Showtime s WHERE s.showDateTime > :afterTime OR (s.showDateTime = :afterTime AND s.id > :afterId) ORDER BY s.showDateTime ASC, s.id ASC")
+    List<Showtime> findPageAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId, Pageable pageable);
+    
+    // Row-by-row read for exports; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s FROM Showtime s ORDER BY s.id ASC")
+    Stream<Showtime> streamAll();
+    
+    // Upcoming showtimes that have no read-model card yet
+    @Query("SELECT s FROM Showtime s WHERE s.showDateTime > :currentTime AND NOT EXISTS (SELECT c FROM ShowtimeCard c WHERE c.showtimeId = s.id)")
+    List<Showtime> findUpcomingWithoutCard(@Param("currentTime") LocalDateTime currentTime);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.movietix.showtime.repository;
+
+import com.movietix.showtime.entity.ShowtimeSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ShowtimeSeatRepository extends JpaRepository<ShowtimeSeat, ShowtimeSeat.Key> {
+    
+    // Taken seat indexes for one showtime, used to rebuild its seat map
+    @Query("SELECT s.seatIndex FROM ShowtimeSeat s WHERE s.showtimeId = :showtimeId")
+    List<Integer> findSeatIndexesByShowtimeId(@Param("showtimeId") Long showtimeId);
+    
+    @Modifying
+    @Query("DELETE FROM ShowtimeSeat s WHERE s.showtimeId = :showtimeId AND s.seatIndex IN :seatIndexes")
+    int deleteSeats(@Param("showtimeId") Long showtimeId, @Param("seatIndexes") Collection<Integer> seatIndexes);
+    
+    @Modifying
+    @Query("DELETE FROM ShowtimeSeat s WHERE s.showtimeId = :showtimeId")
+    int deleteByShowtimeId(@Param("showtimeId") Long showtimeId);
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.movietix.showtime.seating;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Converts between seat labels ("A5", "AB12") and seat indexes in a row-major layout.
+ * Rows are lettered A..Z, then AA, AB, ...; seat numbers start at 1.
+ */
+public final class SeatLabels {
+
+    private SeatLabels() {
+    }
+
+    public static int toIndex(String label, int rows, int seatsPerRow) {
+        String normalized = label == null ? "" : label.trim().toUpperCase(Locale.ROOT);
+        int split = 0;
+        while (split < normalized.length() && Character.isLetter(normalized.charAt(split))) {
+            split++;
+        }
+        if (split == 0 || split == normalized.length()) {
+            throw new IllegalArgumentException("Invalid seat label: " + label);
+        }
+
+        int row = 0;
+        for (int i = 0; i < split; i++) {
+            char c = normalized.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                throw new IllegalArgumentException("Invalid seat label: " + label);
+            }
+            row = row * 26 + (c - 'A' + 1);
+        }
+        row -= 1;
+
+        int number;
+        try {
+            number = Integer.parseInt(normalized.substring(split));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid seat label: " + label);
+        }
+        if (row >= rows || number < 1 || number > seatsPerRow) {
+            throw new IllegalArgumentException("Seat " + label + " does not exist in this theater");
+        }
+        return row * seatsPerRow + number - 1;
+    }
+
+    public static int[] toIndexes(Collection<String> labels, int rows, int seatsPerRow) {
+        return labels.stream()
+                .mapToInt(label -> toIndex(label, rows, seatsPerRow))
+                .toArray();
+    }
+
+    public static String toLabel(int index, int seatsPerRow) {
+        int row = index / seatsPerRow;
+        int number = index % seatsPerRow + 1;
+        StringBuilder rowLabel = new StringBuilder();
+        for (int r = row + 1; r > 0; r = (r - 1) / 26) {
+            rowLabel.insert(0, (char) ('A' + (r - 1) % 26));
+        }
+        return rowLabel.append(number).toString();
+    }
+
+    public static List<String> toLabels(int[] indexes, int seatsPerRow) {
+        return Arrays.stream(indexes)
+                .mapToObj(index -> toLabel(index, seatsPerRow))
+                .toList();
+    }
+}
\ No newline at end of file
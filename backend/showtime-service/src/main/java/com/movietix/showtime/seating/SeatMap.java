@@ -0,0 +1,193 @@
+package com.movietix.showtime.seating;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free seat occupancy for one showtime: one bit per seat, claimed and
+ * released with CAS on 64-seat words. Multi-seat claims are all-or-nothing.
+ */
+public final class SeatMap {
+
+    private final int rows;
+    private final int seatsPerRow;
+    private final AtomicLongArray words;
+    private final AtomicInteger available;
+
+    public SeatMap(int rows, int seatsPerRow) {
+        if (rows < 1 || seatsPerRow < 1) {
+            throw new IllegalArgumentException("Seat layout must have at least one row and one seat per row");
+        }
+        this.rows = rows;
+        this.seatsPerRow = seatsPerRow;
+        this.words = new AtomicLongArray((rows * seatsPerRow + 63) >>> 6);
+        this.available = new AtomicInteger(rows * seatsPerRow);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getSeatsPerRow() {
+        return seatsPerRow;
+    }
+
+    public int capacity() {
+        return rows * seatsPerRow;
+    }
+
+    public int available() {
+        return available.get();
+    }
+
+    public boolean isTaken(int seat) {
+        checkSeat(seat);
+        return (words.get(seat >>> 6) & (1L << seat)) != 0;
+    }
+
+    /**
+     * Claims every seat or none. Returns false if any seat was already taken;
+     * seats set before the conflict are rolled back.
+     */
+    public boolean claim(int[] seats) {
+        for (int seat : seats) {
+            checkSeat(seat);
+        }
+        int[] sorted = seats.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < sorted.length; i++) {
+            if ((i > 0 && sorted[i] == sorted[i - 1]) || !setBit(sorted[i])) {
+                for (int j = 0; j < i; j++) {
+                    if (j == 0 || sorted[j] != sorted[j - 1]) {
+                        clearBit(sorted[j]);
+                    }
+                }
+                return false;
+            }
+        }
+        available.addAndGet(-sorted.length);
+        return true;
+    }
+
+    /**
+     * Releases the given seats and returns the ones that were actually taken.
+     */
+    public int[] release(int[] seats) {
+        int[] released = new int[seats.length];
+        int count = 0;
+        for (int seat : seats) {
+            checkSeat(seat);
+            if (clearBit(seat)) {
+                released[count++] = seat;
+            }
+        }
+        available.addAndGet(count);
+        return Arrays.copyOf(released, count);
+    }
+
+    /**
+     * Picks {@code count} seats, preferring a contiguous block in one row, and
+     * claims them. Returns null when not enough seats are free.
+     */
+    public int[] claimBestAvailable(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Number of seats must be at least 1");
+        }
+        while (available.get() >= count) {
+            int[] candidate = findContiguous(count);
+            if (candidate == null) {
+                candidate = findAny(count);
+            }
+            if (candidate == null) {
+                return null;
+            }
+            if (claim(candidate)) {
+                return candidate;
+            }
+            // Lost a race for one of the seats; rescan with the fresh state
+        }
+        return null;
+    }
+
+    public List<Integer> takenSeats() {
+        List<Integer> taken = new ArrayList<>();
+        for (int w = 0; w < words.length(); w++) {
+            long word = words.get(w);
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                taken.add((w << 6) + bit);
+                word &= word - 1;
+            }
+        }
+        return taken;
+    }
+
+    private int[] findContiguous(int count) {
+        if (count > seatsPerRow) {
+            return null;
+        }
+        for (int row = 0; row < rows; row++) {
+            int run = 0;
+            for (int number = 0; number < seatsPerRow; number++) {
+                int seat = row * seatsPerRow + number;
+                run = isTaken(seat) ? 0 : run + 1;
+                if (run == count) {
+                    int[] block = new int[count];
+                    for (int i = 0; i < count; i++) {
+                        block[i] = seat - count + 1 + i;
+                    }
+                    return block;
+                }
+            }
+        }
+        return null;
+    }
+
+    private int[] findAny(int count) {
+        int[] picked = new int[count];
+        int found = 0;
+        for (int seat = 0; seat < capacity() && found < count; seat++) {
+            if (!isTaken(seat)) {
+                picked[found++] = seat;
+            }
+        }
+        return found == count ? picked : null;
+    }
+
+    private boolean setBit(int seat) {
+        int index = seat >>> 6;
+        long mask = 1L << seat;
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean clearBit(int seat) {
+        int index = seat >>> 6;
+        long mask = 1L << seat;
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) == 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, current, current & ~mask)) {
+                return true;
+            }
+        }
+    }
+
+    private void checkSeat(int seat) {
+        if (seat < 0 || seat >= capacity()) {
+            throw new IllegalArgumentException("Seat index out of range: " + seat);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.movietix.showtime.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movietix.showtime.client.MovieDTO;
+import com.movietix.showtime.client.MovieServiceClient;
+import com.movietix.showtime.client.TheaterDTO;
+import com.movietix.showtime.client.TheaterServiceClient;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Near-cache for the movie and theater projections used to enrich showtimes.
+ * Hits are served locally; misses are resolved with one bulk call per service.
+ */
+@Service
+@Timed("service.method")
+@Slf4j
+public class CatalogLookupService {
+
+    // Cache misses go to movie-service and theater-service in ?ids= calls of at most this many ids
+    private static final int LOOKUP_BATCH_SIZE = 200;
+
+    private final MovieServiceClient movieServiceClient;
+    private final TheaterServiceClient theaterServiceClient;
+    private final Cache<Long, MovieDTO> movies;
+    private final Cache<Long, TheaterDTO> theaters;
+
+    public CatalogLookupService(MovieServiceClient movieServiceClient,
+                                TheaterServiceClient theaterServiceClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${catalog.cache.maximum-size:10000}") long maximumSize,
+                                @Value("${catalog.cache.ttl:10m}") Duration ttl) {
+        this.movieServiceClient = movieServiceClient;
+        this.theaterServiceClient = theaterServiceClient;
+        this.movies = buildCache(maximumSize, ttl);
+        this.theaters = buildCache(maximumSize, ttl);
+        CaffeineCacheMetrics.monitor(meterRegistry, movies, "movies");
+        CaffeineCacheMetrics.monitor(meterRegistry, theaters, "theaters");
+    }
+
+    public Map<Long, MovieDTO> getMovies(Collection<Long> movieIds) {
+        return lookup(movieIds, movies, movieServiceClient::getMovies, MovieDTO::getId, "movies");
+    }
+
+    public Map<Long, TheaterDTO> getTheaters(Collection<Long> theaterIds) {
+        return lookup(theaterIds, theaters, theaterServiceClient::getTheaters, TheaterDTO::getId, "theaters");
+    }
+
+    // Null when the movie does not exist or movie-service could not be reached
+    public MovieDTO getMovie(Long movieId) {
+        return getMovies(List.of(movieId)).get(movieId);
+    }
+
+    // Null when the theater does not exist or theater-service could not be reached
+    public TheaterDTO getTheater(Long theaterId) {
+        return getTheaters(List.of(theaterId)).get(theaterId);
+    }
+
+    public Map<Long, String> getMovieTitles(Collection<Long> movieIds) {
+        Map<Long, String> titles = new HashMap<>();
+        getMovies(movieIds).forEach((id, movie) -> titles.put(id, movie.getTitle()));
+        return titles;
+    }
+
+    public Map<Long, String> getTheaterNames(Collection<Long> theaterIds) {
+        Map<Long, String> names = new HashMap<>();
+        getTheaters(theaterIds).forEach((id, theater) -> names.put(id, theater.getName()));
+        return names;
+    }
+
+    public void evictMovie(Long movieId) {
+        log.debug("Evicting cached movie id: {}", movieId);
+        movies.invalidate(movieId);
+    }
+
+    public void evictTheater(Long theaterId) {
+        log.debug("Evicting cached theater id: {}", theaterId);
+        theaters.invalidate(theaterId);
+    }
+
+    private <T> Map<Long, T> lookup(Collection<Long> ids, Cache<Long, T> cache, Function<List<Long>, List<T>> loader,
+                                    Function<T, Long> idOf, String what) {
+        Map<Long, T> result = new HashMap<>(cache.getAllPresent(ids));
+        if (result.size() == ids.size()) {
+            return result;
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            if (!result.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += LOOKUP_BATCH_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, missing.size()));
+            try {
+                List<T> resolved = loader.apply(batch);
+                if (resolved != null) {
+                    for (T value : resolved) {
+                        cache.put(idOf.apply(value), value);
+                        result.put(idOf.apply(value), value);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Error fetching {} for ids {}: {}", what, batch, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static <T> Cache<Long, T> buildCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
\ No newline at end of file
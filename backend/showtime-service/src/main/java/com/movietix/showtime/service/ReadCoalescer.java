@@ -0,0 +1,60 @@
+package com.movietix.showtime.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for hot reads: while a read for a key is running, identical calls
+ * wait for it and get the same result (or exception) instead of querying again.
+ * The shared read runs in its own read-only transaction, so callers should not hold
+ * one while waiting. Results are shared between callers and must not be modified.
+ */
+@Component
+public class ReadCoalescer {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.coalesced = Counter.builder("service.reads.coalesced")
+                .description("Reads answered by joining an identical read already in flight")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T read(Object key, Supplier<T> loader) {
+        CompletableFuture<Object> read = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, read);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            T result = readOnlyTransaction.execute(status -> loader.get());
+            read.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            read.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, read);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,265 @@
+package com.movietix.showtime.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.seating.SeatMap;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events feed of seat availability per showtime. Seat mutations only
+ * mark their showtime dirty; a short tick then reads each dirty showtime once and
+ * sends one pre-serialized frame to all of its listeners, so a burst of bookings
+ * costs one read and one fan-out per tick however many clients are watching.
+ * Frames are written by a dedicated sender pool, one listener at a time in order,
+ * so a slow client never holds up the scheduler; a listener that falls
+ * max-queued-frames behind is dropped and reconnects to a fresh snapshot.
+ */
+@Service
+@Slf4j
+public class SeatAvailabilityFeed {
+
+    private final ShowtimeRepository showtimeRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int maxQueuedFrames;
+    private final ExecutorService sender;
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public SeatAvailabilityFeed(ShowtimeRepository showtimeRepository,
+                                SeatInventoryService seatInventoryService,
+                                ObjectMapper objectMapper,
+                                @Value("${showtimes.seat-feed.timeout:30m}") Duration timeout,
+                                @Value("${showtimes.seat-feed.max-queued-frames:8}") int maxQueuedFrames,
+                                @Value("${showtimes.seat-feed.sender-threads:4}") int senderThreads) {
+        this.showtimeRepository = showtimeRepository;
+        this.seatInventoryService = seatInventoryService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.maxQueuedFrames = maxQueuedFrames;
+        AtomicInteger threads = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-feed-sender-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+    }
+
+    // Starts with the current availability, then streams changes
+    public SseEmitter subscribe(Showtime showtime) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        int available = availableSeats(showtime);
+        try {
+            emitter.send(frame(showtime.getId(), available, 0));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        Listener listener = new Listener(showtime.getId(), emitter);
+        // Register inside compute so a concurrent last unsubscribe cannot drop the topic underneath us
+        topics.compute(showtime.getId(), (id, topic) -> {
+            if (topic == null) {
+                topic = new Topic();
+                topic.lastAvailable = available;
+            }
+            topic.listeners.add(listener);
+            return topic;
+        });
+        emitter.onCompletion(() -> unsubscribe(listener));
+        emitter.onTimeout(() -> unsubscribe(listener));
+        emitter.onError(error -> unsubscribe(listener));
+        return emitter;
+    }
+
+    // Called on every seat mutation; cheap when nobody is watching the showtime
+    public void seatsChanged(Long showtimeId) {
+        if (topics.containsKey(showtimeId)) {
+            afterCommit(() -> dirty.add(showtimeId));
+        }
+    }
+
+    public void showtimeDeleted(Long showtimeId) {
+        afterCommit(() -> {
+            Topic topic = topics.remove(showtimeId);
+            if (topic != null) {
+                topic.listeners.forEach(listener -> listener.emitter.complete());
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${showtimes.seat-feed.tick:250ms}")
+    public void publishChanges() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Long> changed = new ArrayList<>();
+        for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+            changed.add(it.next());
+            it.remove();
+        }
+
+        // Seated showtimes are answered from memory; count-only ones with one query for the whole tick
+        List<Long> countOnly = new ArrayList<>();
+        for (Long showtimeId : changed) {
+            SeatMap seatMap = seatInventoryService.findSeatMap(showtimeId);
+            if (seatMap != null) {
+                publish(showtimeId, seatMap.available());
+            } else {
+                countOnly.add(showtimeId);
+            }
+        }
+        if (!countOnly.isEmpty()) {
+            try {
+                showtimeRepository.findAllById(countOnly)
+                        .forEach(showtime -> publish(showtime.getId(), showtime.getAvailableSeats()));
+            } catch (Exception e) {
+                log.error("Error reading seat availability for {} showtimes: {}", countOnly.size(), e.getMessage());
+                dirty.addAll(countOnly);
+            }
+        }
+    }
+
+    // SSE comment lines keep idle connections open through proxies
+    @Scheduled(fixedRateString = "${showtimes.seat-feed.heartbeat:15s}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        topics.values().forEach(topic -> broadcast(topic, ping));
+    }
+
+    private void publish(Long showtimeId, int available) {
+        Topic topic = topics.get(showtimeId);
+        if (topic == null || topic.lastAvailable == available) {
+            return;
+        }
+        int delta = available - topic.lastAvailable;
+        topic.lastAvailable = available;
+        broadcast(topic, frame(showtimeId, available, delta));
+    }
+
+    // Only queues the frame; the scheduler thread never writes to a socket
+    private void broadcast(Topic topic, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (Listener listener : topic.listeners) {
+            listener.enqueue(frame);
+        }
+    }
+
+    private void unsubscribe(Listener listener) {
+        topics.computeIfPresent(listener.showtimeId, (id, topic) -> {
+            topic.listeners.remove(listener);
+            return topic.listeners.isEmpty() ? null : topic;
+        });
+    }
+
+    // Serialized once per change and shared by every listener
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(Long showtimeId, int available, int delta) {
+        try {
+            String json = objectMapper.writeValueAsString(Map.of(
+                    "showtimeId", showtimeId, "availableSeats", available, "delta", delta));
+            return SseEmitter.event().name("seats").data(json, MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize seat update", e);
+        }
+    }
+
+    private int availableSeats(Showtime showtime) {
+        SeatMap seatMap = seatInventoryService.findSeatMap(showtime.getId());
+        return seatMap != null ? seatMap.available() : showtime.getAvailableSeats();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Topic {
+        private final Set<Listener> listeners = ConcurrentHashMap.newKeySet();
+        private volatile int lastAvailable;
+    }
+
+    // One client; its frames are sent in order by at most one sender thread at a time
+    private final class Listener {
+        private final Long showtimeId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Listener(Long showtimeId, SseEmitter emitter) {
+            this.showtimeId = showtimeId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (queued.incrementAndGet() > maxQueuedFrames) {
+                // Writes to this client have stalled; it gets a fresh snapshot when it reconnects
+                log.debug("Dropping stalled seat feed listener of showtime {}", showtimeId);
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            frames.add(frame);
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while ((frame = frames.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(frame);
+                } catch (Exception e) {
+                    // Client went away; the error callback would remove it too
+                    unsubscribe(this);
+                    return;
+                }
+            }
+            draining.set(false);
+            // A frame queued after the last poll but before the flag was cleared
+            if (!frames.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.movietix.showtime.service;
+
+import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.exception.SeatUnavailableException;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.repository.ShowtimeSeatRepository;
+import com.movietix.showtime.seating.SeatLabels;
+import com.movietix.showtime.seating.SeatMap;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory seat maps for showtimes that have a seat layout. Claims and releases
+ * are decided here without a database round trip and persisted by
+ * SeatPersistenceWriter. Assumes a single showtime-service instance owns the maps.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventoryService {
+
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeSeatRepository showtimeSeatRepository;
+    private final SeatPersistenceWriter seatPersistenceWriter;
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSeatMaps() {
+        List<Showtime> showtimes = showtimeRepository.findUpcomingSeatedShowtimes(LocalDateTime.now());
+        showtimes.forEach(this::getSeatMap);
+        log.info("Rebuilt seat maps for {} upcoming showtimes", showtimes.size());
+    }
+
+    public boolean hasSeatLayout(Showtime showtime) {
+        return showtime.getSeatRows() != null && showtime.getSeatsPerRow() != null;
+    }
+
+    // Seat map already held in memory, or null; never touches the database
+    public SeatMap findSeatMap(Long showtimeId) {
+        return seatMaps.get(showtimeId);
+    }
+
+    public SeatMap getSeatMap(Showtime showtime) {
+        return seatMaps.computeIfAbsent(showtime.getId(), id -> load(showtime));
+    }
+
+    public List<String> claim(Long showtimeId, SeatMap seatMap, Collection<String> labels) {
+        int[] seats = SeatLabels.toIndexes(labels, seatMap.getRows(), seatMap.getSeatsPerRow());
+        return claimed(showtimeId, seatMap, () -> seatMap.claim(seats) ? seats : null,
+                () -> new SeatUnavailableException("One or more of seats " + labels + " are no longer available"));
+    }
+
+    public List<String> claimBestAvailable(Long showtimeId, SeatMap seatMap, int count) {
+        return claimed(showtimeId, seatMap, () -> seatMap.claimBestAvailable(count),
+                () -> new SeatUnavailableException("Not enough seats available for showtime id: " + showtimeId));
+    }
+
+    public List<String> release(Long showtimeId, SeatMap seatMap, Collection<String> labels) {
+        int[] released = seatMap.release(SeatLabels.toIndexes(labels, seatMap.getRows(), seatMap.getSeatsPerRow()));
+        seatPersistenceWriter.seatsReleased(showtimeId, released);
+        return SeatLabels.toLabels(released, seatMap.getSeatsPerRow());
+    }
+
+    // Waits for room in the write-behind queue first, so a slow database slows claims down rather than filling memory
+    private List<String> claimed(Long showtimeId, SeatMap seatMap, Supplier<int[]> claim,
+                                 Supplier<SeatUnavailableException> unavailable) {
+        seatPersistenceWriter.awaitClaimCapacity();
+        int[] seats = null;
+        try {
+            seats = claim.get();
+        } finally {
+            if (seats == null) {
+                seatPersistenceWriter.claimAbandoned();
+            }
+        }
+        if (seats == null) {
+            throw unavailable.get();
+        }
+        seatPersistenceWriter.seatsClaimed(showtimeId, seats);
+        return SeatLabels.toLabels(seats, seatMap.getSeatsPerRow());
+    }
+
+    public void remove(Long showtimeId) {
+        seatMaps.remove(showtimeId);
+        showtimeSeatRepository.deleteByShowtimeId(showtimeId);
+    }
+
+    private SeatMap load(Showtime showtime) {
+        SeatMap seatMap = new SeatMap(showtime.getSeatRows(), showtime.getSeatsPerRow());
+        int[] taken = showtimeSeatRepository.findSeatIndexesByShowtimeId(showtime.getId()).stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        if (taken.length > 0) {
+            seatMap.claim(taken);
+        }
+        return seatMap;
+    }
+}
\ No newline at end of file
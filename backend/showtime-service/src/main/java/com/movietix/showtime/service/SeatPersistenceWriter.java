@@ -0,0 +1,215 @@
+package com.movietix.showtime.service;
+
+import com.movietix.showtime.entity.ShowtimeSeat;
+import com.movietix.showtime.exception.SeatPersistenceBacklogException;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.repository.ShowtimeSeatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind for seat maps. Claims and releases are queued by SeatInventoryService
+ * and flushed to showtime_seats in batches, together with the net change to
+ * showtimes.available_seats. A failing batch is retried one showtime at a time, so
+ * one bad showtime does not hold up the others, and changes that keep failing are
+ * dead-lettered. Claims wait for room in the queue, which bounds how far the
+ * database may fall behind the in-memory maps.
+ */
+@Component
+@Slf4j
+public class SeatPersistenceWriter {
+
+    private final ShowtimeSeatRepository showtimeSeatRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Queue<SeatChange> pending = new ConcurrentLinkedQueue<>();
+    private final List<SeatChange> retry = new ArrayList<>();
+    // One permit per queued claim; releases are always accepted, since refusing one would lose the seats
+    private final Semaphore claimPermits;
+    private final Counter deadLettered;
+
+    @Value("${seating.persistence.max-batch-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${seating.persistence.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${seating.persistence.backlog-timeout:2s}")
+    private Duration backlogTimeout;
+
+    public SeatPersistenceWriter(ShowtimeSeatRepository showtimeSeatRepository, ShowtimeRepository showtimeRepository,
+                                 TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                                 @Value("${seating.persistence.max-pending-claims:50000}") int maxPendingClaims) {
+        this.showtimeSeatRepository = showtimeSeatRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.claimPermits = new Semaphore(maxPendingClaims);
+        Gauge.builder("seating.persistence.pending.claims", claimPermits, permits -> maxPendingClaims - permits.availablePermits())
+                .description("Seat claims decided in memory and not yet written to the database")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("seating.persistence.dead.lettered")
+                .description("Seat changes dropped after failing to persist max-attempts times")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes room for one claim in the queue, waiting up to backlog-timeout when it is
+     * full. Must be followed by {@link #seatsClaimed} or, if the claim fails, {@link #claimAbandoned}.
+     */
+    public void awaitClaimCapacity() {
+        try {
+            if (!claimPermits.tryAcquire(backlogTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SeatPersistenceBacklogException("Seat changes are not being persisted fast enough; try again");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SeatPersistenceBacklogException("Interrupted while waiting to persist seat changes");
+        }
+    }
+
+    public void claimAbandoned() {
+        claimPermits.release();
+    }
+
+    public void seatsClaimed(Long showtimeId, int[] seats) {
+        pending.add(new SeatChange(showtimeId, seats, true, 0));
+    }
+
+    public void seatsReleased(Long showtimeId, int[] seats) {
+        if (seats.length > 0) {
+            pending.add(new SeatChange(showtimeId, seats, false, 0));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seating.persistence.flush-interval:200ms}")
+    public void flush() {
+        // Changes being retried go first, so they are still written before anything queued after them
+        List<SeatChange> batch = new ArrayList<>(retry);
+        retry.clear();
+        SeatChange change;
+        while (batch.size() < maxBatchSize && (change = pending.poll()) != null) {
+            batch.add(change);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            log.debug("Flushed {} seat changes", batch.size());
+            done(batch);
+        } catch (Exception e) {
+            log.warn("Error flushing {} seat changes, retrying per showtime: {}", batch.size(), e.getMessage());
+            flushPerShowtime(batch);
+        }
+    }
+
+    private void flushPerShowtime(List<SeatChange> batch) {
+        Map<Long, List<SeatChange>> byShowtime = new LinkedHashMap<>();
+        batch.forEach(change -> byShowtime.computeIfAbsent(change.showtimeId(), id -> new ArrayList<>()).add(change));
+        byShowtime.forEach((showtimeId, changes) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(changes));
+                done(changes);
+            } catch (Exception e) {
+                failed(showtimeId, changes, e);
+            }
+        });
+    }
+
+    private void failed(Long showtimeId, List<SeatChange> changes, Exception e) {
+        if (changes.get(0).attempts() + 1 < maxAttempts) {
+            log.error("Error persisting {} seat changes for showtime {}, will retry: {}", changes.size(), showtimeId,
+                    e.getMessage());
+            changes.forEach(change -> retry.add(change.retried()));
+            return;
+        }
+        // Later changes of the showtime go with the failing ones, as they may depend on them. Memory and
+        // database disagree for these seats until the seat map is rebuilt from the database
+        for (SeatChange change : changes) {
+            log.error("Dead-lettered seat change for showtime {} after {} attempts: {} seats {} ({})", showtimeId,
+                    maxAttempts, change.claimed() ? "claim of" : "release of", Arrays.toString(change.seats()),
+                    e.getMessage());
+        }
+        deadLettered.increment(changes.size());
+        done(changes);
+    }
+
+    private void done(List<SeatChange> changes) {
+        int claims = (int) changes.stream().filter(SeatChange::claimed).count();
+        if (claims > 0) {
+            claimPermits.release(claims);
+        }
+    }
+
+    private void write(List<SeatChange> batch) {
+        // Net effect per seat: taken before the batch vs. taken after it
+        Map<Long, Map<Integer, SeatDelta>> deltas = new HashMap<>();
+        for (SeatChange change : batch) {
+            Map<Integer, SeatDelta> seats = deltas.computeIfAbsent(change.showtimeId(), id -> new HashMap<>());
+            for (int seat : change.seats()) {
+                seats.computeIfAbsent(seat, s -> new SeatDelta(!change.claimed())).takenAfter = change.claimed();
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((showtimeId, seats) -> {
+            List<ShowtimeSeat> inserts = new ArrayList<>();
+            List<Integer> deletes = new ArrayList<>();
+            seats.forEach((seat, delta) -> {
+                if (!delta.takenBefore && delta.takenAfter) {
+                    inserts.add(ShowtimeSeat.builder().showtimeId(showtimeId).seatIndex(seat).build());
+                } else if (delta.takenBefore && !delta.takenAfter) {
+                    deletes.add(seat);
+                }
+            });
+
+            if (!deletes.isEmpty()) {
+                showtimeSeatRepository.deleteSeats(showtimeId, deletes);
+            }
+            if (!inserts.isEmpty()) {
+                showtimeSeatRepository.saveAll(inserts);
+            }
+            int change = deletes.size() - inserts.size();
+            if (change != 0) {
+                showtimeRepository.adjustAvailableSeats(showtimeId, change, now);
+            }
+        });
+    }
+
+    private static final class SeatDelta {
+        private final boolean takenBefore;
+        private boolean takenAfter;
+
+        private SeatDelta(boolean takenBefore) {
+            this.takenBefore = takenBefore;
+            this.takenAfter = takenBefore;
+        }
+    }
+
+    private record SeatChange(Long showtimeId, int[] seats, boolean claimed, int attempts) {
+
+        SeatChange retried() {
+            return new SeatChange(showtimeId, seats, claimed, attempts + 1);
+        }
+    }
+}
\ No newline at end of file
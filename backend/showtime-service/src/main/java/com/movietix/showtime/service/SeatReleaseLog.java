@@ -0,0 +1,50 @@
+package com.movietix.showtime.service;
+
+import com.movietix.showtime.entity.SeatRelease;
+import com.movietix.showtime.repository.SeatReleaseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Keys of applied seat releases. A caller that cannot tell whether its release
+ * went through sends it again with the same key, and the repeat is skipped. Keys
+ * are kept for seating.release-keys.retention, well past any retry.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SeatReleaseLog {
+
+    private final SeatReleaseRepository seatReleaseRepository;
+
+    @Value("${seating.release-keys.retention:1d}")
+    private Duration retention;
+
+    // False when the key was recorded before; runs in the caller's transaction, so the key commits with the release
+    public boolean record(String releaseKey, Long showtimeId) {
+        if (seatReleaseRepository.existsById(releaseKey)) {
+            return false;
+        }
+        // Flush now so a concurrent duplicate fails here, before any seat is released
+        seatReleaseRepository.saveAndFlush(SeatRelease.builder()
+                .releaseKey(releaseKey)
+                .showtimeId(showtimeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${seating.release-keys.purge-interval:1h}")
+    public void purgeExpired() {
+        int deleted = seatReleaseRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        log.debug("Purged {} seat release keys", deleted);
+    }
+}
\ No newline at end of file
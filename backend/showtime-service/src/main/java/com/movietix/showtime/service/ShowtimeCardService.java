@@ -0,0 +1,193 @@
+package com.movietix.showtime.service;
+
+import com.movietix.outbox.event.DomainEvent;
+import com.movietix.outbox.event.EventBus;
+import com.movietix.showtime.client.TheaterDTO;
+import com.movietix.showtime.dto.ShowtimeCardDTO;
+import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.entity.ShowtimeCard;
+import com.movietix.showtime.repository.ShowtimeCardRepository;
+import com.movietix.showtime.repository.ShowtimeRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read model behind "now showing": one showtime_cards row per showtime with the
+ * movie title and theater name/location joined in at write time, so a listing
+ * for a date and location is a single indexed query with no enrichment calls.
+ * Cards follow committed showtime changes through the outbox and are patched
+ * when movie-service or theater-service report a renamed movie or theater; a
+ * periodic reconcile repairs upcoming cards whose rename notice was lost.
+ */
+@Service
+@Timed("service.method")
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ShowtimeCardService {
+
+    private final ShowtimeCardRepository showtimeCardRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final CatalogLookupService catalogLookupService;
+    private final EventBus eventBus;
+
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(ShowtimeService.AGGREGATE_TYPE, this::showtimeChanged);
+    }
+
+    // Cards for upcoming showtimes created before the read model existed, or missed while it was down
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCards() {
+        List<Showtime> showtimes = showtimeRepository.findUpcomingWithoutCard(LocalDateTime.now());
+        if (showtimes.isEmpty()) {
+            return;
+        }
+        Set<Long> movieIds = new HashSet<>();
+        Set<Long> theaterIds = new HashSet<>();
+        for (Showtime showtime : showtimes) {
+            movieIds.add(showtime.getMovieId());
+            theaterIds.add(showtime.getTheaterId());
+        }
+        Map<Long, String> movieTitles = catalogLookupService.getMovieTitles(movieIds);
+        Map<Long, TheaterDTO> theaters = catalogLookupService.getTheaters(theaterIds);
+
+        showtimeCardRepository.saveAll(showtimes.stream()
+                .map(showtime -> toCard(showtime, movieTitles.get(showtime.getMovieId()), theaters.get(showtime.getTheaterId())))
+                .toList());
+        log.info("Backfilled {} showtime cards", showtimes.size());
+    }
+
+    // Catalog data is read through the lookup cache, so a lost rename is repaired within catalog.cache.ttl plus this interval
+    @Scheduled(initialDelayString = "${showtimes.cards.reconcile-interval:15m}",
+            fixedDelayString = "${showtimes.cards.reconcile-interval:15m}")
+    public void reconcileCards() {
+        backfillCards();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> titles = showtimeCardRepository.findUpcomingMovieTitles(now);
+        Set<Long> movieIds = new HashSet<>();
+        titles.forEach(row -> movieIds.add((Long) row[0]));
+        Map<Long, String> movieTitles = catalogLookupService.getMovieTitles(movieIds);
+        Set<Long> staleMovies = new HashSet<>();
+        for (Object[] row : titles) {
+            String title = movieTitles.get((Long) row[0]);
+            if (title != null && !title.equals(row[1])) {
+                staleMovies.add((Long) row[0]);
+            }
+        }
+        staleMovies.forEach(movieId -> showtimeCardRepository.updateMovieTitle(movieId, movieTitles.get(movieId)));
+
+        List<Object[]> places = showtimeCardRepository.findUpcomingTheaters(now);
+        Set<Long> theaterIds = new HashSet<>();
+        places.forEach(row -> theaterIds.add((Long) row[0]));
+        Map<Long, TheaterDTO> theaters = catalogLookupService.getTheaters(theaterIds);
+        Set<Long> staleTheaters = new HashSet<>();
+        for (Object[] row : places) {
+            TheaterDTO theater = theaters.get((Long) row[0]);
+            if (theater != null && (!Objects.equals(theater.getName(), row[1])
+                    || !Objects.equals(theater.getLocation(), row[2]))) {
+                staleTheaters.add((Long) row[0]);
+            }
+        }
+        staleTheaters.forEach(theaterId -> {
+            TheaterDTO theater = theaters.get(theaterId);
+            showtimeCardRepository.updateTheater(theaterId, theater.getName(), theater.getLocation());
+        });
+
+        if (!staleMovies.isEmpty() || !staleTheaters.isEmpty()) {
+            log.info("Reconciled showtime cards of {} movies and {} theaters", staleMovies.size(), staleTheaters.size());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ShowtimeCardDTO> getNowShowing(String location, LocalDate date) {
+        log.info("Fetching showtimes on {} near {}", date, location);
+        // Today's listing starts from now; other days from midnight
+        LocalDateTime from = date.equals(LocalDate.now()) ? LocalDateTime.now() : date.atStartOfDay();
+        return showtimeCardRepository.findNowShowing(date, location, from).stream()
+                .map(this::convertToDTO)
+                .toList();
+    }
+
+    // Runs in the relay's transaction. The card is rebuilt from the showtime as it is now, so a
+    // redelivered or late event leaves the same card behind
+    void showtimeChanged(DomainEvent event) {
+        showtimeRepository.findById(event.aggregateId()).ifPresentOrElse(this::saveCard,
+                () -> showtimeCardRepository.deleteById(event.aggregateId()));
+    }
+
+    public void movieChanged(Long movieId) {
+        String title = catalogLookupService.getMovieTitles(List.of(movieId)).get(movieId);
+        if (title != null) {
+            int updated = showtimeCardRepository.updateMovieTitle(movieId, title);
+            log.debug("Updated movie title on {} showtime cards for movie id: {}", updated, movieId);
+        }
+    }
+
+    public void theaterChanged(Long theaterId) {
+        TheaterDTO theater = catalogLookupService.getTheater(theaterId);
+        if (theater != null) {
+            int updated = showtimeCardRepository.updateTheater(theaterId, theater.getName(), theater.getLocation());
+            log.debug("Updated theater on {} showtime cards for theater id: {}", updated, theaterId);
+        }
+    }
+
+    private void saveCard(Showtime showtime) {
+        ShowtimeCard card = showtimeCardRepository.findById(showtime.getId()).orElse(null);
+        // Same movie and theater: only the showtime's own fields change, so no catalog lookup is needed
+        if (card != null && card.getMovieId().equals(showtime.getMovieId())
+                && card.getTheaterId().equals(showtime.getTheaterId())) {
+            card.setShowDate(showtime.getShowDateTime().toLocalDate());
+            card.setShowDateTime(showtime.getShowDateTime());
+            card.setTicketPrice(showtime.getTicketPrice());
+            showtimeCardRepository.save(card);
+            return;
+        }
+        TheaterDTO theater = catalogLookupService.getTheater(showtime.getTheaterId());
+        String movieTitle = catalogLookupService.getMovieTitles(List.of(showtime.getMovieId())).get(showtime.getMovieId());
+        showtimeCardRepository.save(toCard(showtime, movieTitle, theater));
+    }
+
+    private ShowtimeCard toCard(Showtime showtime, String movieTitle, TheaterDTO theater) {
+        return ShowtimeCard.builder()
+                .showtimeId(showtime.getId())
+                .showDate(showtime.getShowDateTime().toLocalDate())
+                .location(theater != null ? theater.getLocation() : null)
+                .showDateTime(showtime.getShowDateTime())
+                .movieId(showtime.getMovieId())
+                .movieTitle(movieTitle != null ? movieTitle : "Unknown Movie")
+                .theaterId(showtime.getTheaterId())
+                .theaterName(theater != null ? theater.getName() : "Unknown Theater")
+                .ticketPrice(showtime.getTicketPrice())
+                .build();
+    }
+
+    private ShowtimeCardDTO convertToDTO(ShowtimeCard card) {
+        return ShowtimeCardDTO.builder()
+                .showtimeId(card.getShowtimeId())
+                .movieId(card.getMovieId())
+                .movieTitle(card.getMovieTitle())
+                .theaterId(card.getTheaterId())
+                .theaterName(card.getTheaterName())
+                .location(card.getLocation())
+                .showDateTime(card.getShowDateTime())
+                .ticketPrice(card.getTicketPrice())
+                .build();
+    }
+}
\ No newline at end of file
@@ -1,90 +1,201 @@
 package com.movietix.showtime.service;
 
-import com.movietix.showtime.client.MovieServiceClient;
-import com.movietix.showtime.client.TheaterServiceClient;
+import com.movietix.showtime.client.TheaterDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movietix.outbox.service.OutboxService;
 import com.movietix.showtime.dto.CreateShowtimeRequest;
+import com.movietix.showtime.dto.CursorPage;
+import com.movietix.showtime.dto.SeatAssignmentDTO;
+import com.movietix.showtime.dto.SeatMapDTO;
 import com.movietix.showtime.dto.ShowtimeDTO;
 import com.movietix.showtime.dto.UpdateShowtimeRequest;
 import com.movietix.showtime.entity.Showtime;
+import com.movietix.showtime.exception.InsufficientSeatsException;
+import com.movietix.showtime.exception.ShowtimeNotFoundException;
 import com.movietix.showtime.repository.ShowtimeRepository;
+import com.movietix.showtime.seating.SeatLabels;
+import com.movietix.showtime.seating.SeatMap;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class ShowtimeService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    static final String AGGREGATE_TYPE = "Showtime";
+
     private final ShowtimeRepository showtimeRepository;
-    private final MovieServiceClient movieServiceClient;
-    private final TheaterServiceClient theaterServiceClient;
+    private final CatalogLookupService catalogLookupService;
+    private final SeatInventoryService seatInventoryService;
+    private final OutboxService outboxService;
+    private final SeatAvailabilityFeed seatAvailabilityFeed;
+    private final ObjectMapper objectMapper;
+    private final ReadCoalescer readCoalescer;
+    private final SeatReleaseLog seatReleaseLog;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
+    /**
+     * First {@value #MAX_PAGE_SIZE} showtimes in keyset order, for clients of the old
+     * unpaged listing.
+     *
+     * @deprecated use {@link #getShowtimesPage} or {@link #exportShowtimes}
+     */
+    @Deprecated
     @Transactional(readOnly = true)
-    public List<ShowtimeDTO> getAllShowtimes() {
-        log.info("Fetching all showtimes");
-        List<Showtime> showtimes = showtimeRepository.findAll();
-        return showtimes.stream()
-                .map(this::convertToDTO)
-                .toList();
+    public CursorPage<ShowtimeDTO> getAllShowtimes() {
+        log.info("Fetching first page of all showtimes");
+        return getShowtimesPage(null, MAX_PAGE_SIZE);
     }
 
+    // Keyset page ordered by (showDateTime, id); cost is independent of how deep the page is
     @Transactional(readOnly = true)
-    public Optional<ShowtimeDTO> getShowtimeById(Long id) {
-        log.info("Fetching showtime with id: {}", id);
-        return showtimeRepository.findById(id)
-                .map(this::convertToDTO);
+    public CursorPage<ShowtimeDTO> getShowtimesPage(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        log.info("Fetching showtimes page after cursor: {}", cursor);
+
+        // One extra row tells whether another page follows
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Showtime> showtimes;
+        if (cursor == null || cursor.isBlank()) {
+            showtimes = showtimeRepository.findFirstPage(limit);
+        } else {
+            ShowtimeCursor after = ShowtimeCursor.decode(cursor);
+            showtimes = showtimeRepository.findPageAfter(after.showDateTime(), after.id(), limit);
+        }
+
+        boolean hasMore = showtimes.size() > size;
+        List<Showtime> page = hasMore ? showtimes.subList(0, size) : showtimes;
+        Showtime last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return CursorPage.<ShowtimeDTO>builder()
+                .items(convertToDTOs(page))
+                .nextCursor(hasMore ? new ShowtimeCursor(last.getShowDateTime(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
+    /**
+     * Writes every showtime as one JSON object per line. Rows are read through a
+     * fetch-size cursor, detached as they are read and enriched in chunks, so memory
+     * stays flat regardless of table size. Returns the number of rows written.
+     */
     @Transactional(readOnly = true)
-    public List<ShowtimeDTO> getShowtimesByMovieId(Long movieId) {
-        log.info("Fetching showtimes for movie id: {}", movieId);
-        try {
-            List<Showtime> showtimes = showtimeRepository.findByMovieId(movieId);
-            log.info("Found {} showtimes for movie id: {}", showtimes.size(), movieId);
-            return showtimes.stream()
-                    .map(this::convertToDTO)
-                    .toList();
-        } catch (Exception e) {
-            log.error("Error fetching showtimes for movie id {}: {}", movieId, e.getMessage(), e);
-            throw e;
+    public long exportShowtimes(OutputStream out) throws IOException {
+        log.info("Exporting all showtimes");
+        long count = 0;
+        List<Showtime> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Showtime> showtimes = showtimeRepository.streamAll()) {
+            Iterator<Showtime> iterator = showtimes.iterator();
+            while (iterator.hasNext()) {
+                Showtime showtime = iterator.next();
+                entityManager.detach(showtime);
+                chunk.add(showtime);
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    count += writeLines(chunk, out);
+                    chunk.clear();
+                }
+            }
         }
+        count += writeLines(chunk, out);
+        out.flush();
+        log.info("Exported {} showtimes", count);
+        return count;
     }
 
+    // Coalesced reads run in ReadCoalescer's transaction; waiting callers hold no connection
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ShowtimeDTO> getShowtimeById(Long id) {
+        return readCoalescer.read("showtime:" + id, () -> {
+            log.info("Fetching showtime with id: {}", id);
+            return showtimeRepository.findById(id)
+                    .map(this::convertToDTO);
+        });
+    }
+
+    // Bulk lookup for callers that enrich many records at once; unknown ids are skipped
     @Transactional(readOnly = true)
+    public List<ShowtimeDTO> getShowtimesByIds(Collection<Long> ids) {
+        log.info("Fetching {} showtimes by id", ids.size());
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_PAGE_SIZE + " showtime ids per request");
+        }
+        return convertToDTOs(showtimeRepository.findAllById(ids));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ShowtimeDTO> getShowtimesByMovieId(Long movieId) {
+        return readCoalescer.read("showtimes-by-movie:" + movieId, () -> {
+            log.info("Fetching showtimes for movie id: {}", movieId);
+            try {
+                List<Showtime> showtimes = showtimeRepository.findByMovieId(movieId);
+                log.info("Found {} showtimes for movie id: {}", showtimes.size(), movieId);
+                return convertToDTOs(showtimes);
+            } catch (Exception e) {
+                log.error("Error fetching showtimes for movie id {}: {}", movieId, e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ShowtimeDTO> getShowtimesByTheaterId(Long theaterId) {
-        log.info("Fetching showtimes for theater id: {}", theaterId);
-        List<Showtime> showtimes = showtimeRepository.findByTheaterId(theaterId);
-        return showtimes.stream()
-                .map(this::convertToDTO)
-                .toList();
+        return readCoalescer.read("showtimes-by-theater:" + theaterId, () -> {
+            log.info("Fetching showtimes for theater id: {}", theaterId);
+            List<Showtime> showtimes = showtimeRepository.findByTheaterId(theaterId);
+            return convertToDTOs(showtimes);
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ShowtimeDTO> getUpcomingShowtimes() {
-        log.info("Fetching upcoming showtimes");
-        List<Showtime> showtimes = showtimeRepository.findUpcomingShowtimes(LocalDateTime.now());
-        return showtimes.stream()
-                .map(this::convertToDTO)
-                .toList();
+        return readCoalescer.read("upcoming-showtimes", () -> {
+            log.info("Fetching upcoming showtimes");
+            List<Showtime> showtimes = showtimeRepository.findUpcomingShowtimes(LocalDateTime.now());
+            return convertToDTOs(showtimes);
+        });
     }
 
     public ShowtimeDTO createShowtime(CreateShowtimeRequest request) {
         log.info("Creating new showtime for movie id: {} at theater id: {}", request.getMovieId(), request.getTheaterId());
         
         // Validate that movie and theater exist (optional - can be done via constraints)
-        try {
-            movieServiceClient.getMovie(request.getMovieId());
-            theaterServiceClient.getTheater(request.getTheaterId());
-        } catch (Exception e) {
-            log.warn("Error validating movie or theater existence: {}", e.getMessage());
-            // Continue anyway - let the database constraints handle it
+        if (catalogLookupService.getMovie(request.getMovieId()) == null) {
+            log.warn("Movie {} could not be resolved; continuing without validation", request.getMovieId());
+        }
+        TheaterDTO theater = catalogLookupService.getTheater(request.getTheaterId());
+        if (theater == null) {
+            log.warn("Theater {} could not be resolved; continuing without validation", request.getTheaterId());
         }
 
         Showtime showtime = Showtime.builder()
@@ -95,14 +206,27 @@ public class ShowtimeService {
                 .availableSeats(request.getAvailableSeats())
                 .build();
 
+        // Theaters with a seat layout get per-seat inventory; capacity then comes from the layout
+        if (theater != null && theater.getSeatRows() != null && theater.getSeatsPerRow() != null) {
+            showtime.setSeatRows(theater.getSeatRows());
+            showtime.setSeatsPerRow(theater.getSeatsPerRow());
+            showtime.setAvailableSeats(theater.getSeatRows() * theater.getSeatsPerRow());
+        }
+        showtime.setTotalSeats(showtime.getAvailableSeats());
+
         Showtime savedShowtime = showtimeRepository.save(showtime);
         log.info("Created showtime with id: {}", savedShowtime.getId());
+        if (seatInventoryService.hasSeatLayout(savedShowtime)) {
+            seatInventoryService.getSeatMap(savedShowtime);
+        }
+        outboxService.record(AGGREGATE_TYPE, savedShowtime.getId(), "ShowtimeCreated", savedShowtime);
         
         return convertToDTO(savedShowtime);
     }
 
     public ShowtimeDTO updateShowtime(Long id, UpdateShowtimeRequest request) {
         log.info("Updating showtime with id: {}", id);
+        seatAvailabilityFeed.seatsChanged(id);
         
         Showtime showtime = showtimeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Showtime not found with id: " + id));
@@ -120,11 +244,16 @@ public class ShowtimeService {
             showtime.setTicketPrice(request.getTicketPrice());
         }
         if (request.getAvailableSeats() != null) {
+            // Capacity moves with the new count, so seats already booked can still be released
+            if (showtime.getTotalSeats() != null) {
+                showtime.setTotalSeats(showtime.getTotalSeats() - showtime.getAvailableSeats() + request.getAvailableSeats());
+            }
             showtime.setAvailableSeats(request.getAvailableSeats());
         }
 
         Showtime updatedShowtime = showtimeRepository.save(showtime);
         log.info("Updated showtime with id: {}", updatedShowtime.getId());
+        outboxService.record(AGGREGATE_TYPE, id, "ShowtimeUpdated", updatedShowtime);
         
         return convertToDTO(updatedShowtime);
     }
@@ -136,26 +265,163 @@ public class ShowtimeService {
             throw new RuntimeException("Showtime not found with id: " + id);
         }
 
+        seatInventoryService.remove(id);
+        seatAvailabilityFeed.showtimeDeleted(id);
         showtimeRepository.deleteById(id);
+        outboxService.record(AGGREGATE_TYPE, id, "ShowtimeDeleted", Map.of("id", id));
         log.info("Deleted showtime with id: {}", id);
     }
 
+    public SeatAssignmentDTO bookSeats(Long id, int seats) {
+        log.info("Booking {} seats for showtime id: {}", seats, id);
+        seatAvailabilityFeed.seatsChanged(id);
+        validateSeatCount(seats);
+
+        // Hot seated showtimes are decided in memory
+        SeatMap seatMap = seatInventoryService.findSeatMap(id);
+        if (seatMap != null) {
+            return seatAssignment(id, seatInventoryService.claimBestAvailable(id, seatMap, seats));
+        }
+
+        // Count-only showtimes take one conditional update
+        int updated = showtimeRepository.decrementAvailableSeats(id, seats, LocalDateTime.now());
+        if (updated == 1) {
+            return seatAssignment(id, List.of());
+        }
+
+        Showtime showtime = showtimeRepository.findById(id)
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found with id: " + id));
+        if (seatInventoryService.hasSeatLayout(showtime)) {
+            seatMap = seatInventoryService.getSeatMap(showtime);
+            return seatAssignment(id, seatInventoryService.claimBestAvailable(id, seatMap, seats));
+        }
+        throw new InsufficientSeatsException("Not enough seats available for showtime id: " + id);
+    }
+
+    // A release with a key already seen is skipped; releases without a key are always applied
+    public void releaseSeats(Long id, int seats, List<String> labels, String releaseKey) {
+        log.info("Releasing {} seats for showtime id: {}", seats, id);
+        seatAvailabilityFeed.seatsChanged(id);
+        validateSeatCount(seats);
+
+        if (releaseKey != null && !seatReleaseLog.record(releaseKey, id)) {
+            log.info("Skipped repeated release {} for showtime id: {}", releaseKey, id);
+            return;
+        }
+
+        if (labels != null && !labels.isEmpty()) {
+            releaseSelectedSeats(id, labels);
+            return;
+        }
+
+        int updated = showtimeRepository.incrementAvailableSeats(id, seats, LocalDateTime.now());
+        if (updated == 0) {
+            if (!showtimeRepository.existsById(id)) {
+                throw new ShowtimeNotFoundException("Showtime not found with id: " + id);
+            }
+            // More seats than are booked, e.g. a repeated release; refusing it would only make the caller retry
+            log.warn("Ignored release of {} seats for showtime id: {}; it would exceed the showtime's capacity", seats, id);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeSeatFeed(Long id) {
+        log.info("Subscribing to seat feed for showtime id: {}", id);
+        Showtime showtime = showtimeRepository.findById(id)
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found with id: " + id));
+        return seatAvailabilityFeed.subscribe(showtime);
+    }
+
+    @Transactional(readOnly = true)
+    public SeatMapDTO getSeatMap(Long id) {
+        SeatMap seatMap = requireSeatMap(id);
+        return SeatMapDTO.builder()
+                .showtimeId(id)
+                .rows(seatMap.getRows())
+                .seatsPerRow(seatMap.getSeatsPerRow())
+                .availableSeats(seatMap.available())
+                .takenSeats(seatMap.takenSeats().stream()
+                        .map(seat -> SeatLabels.toLabel(seat, seatMap.getSeatsPerRow()))
+                        .toList())
+                .build();
+    }
+
+    public SeatAssignmentDTO claimSelectedSeats(Long id, List<String> labels) {
+        log.info("Claiming seats {} for showtime id: {}", labels, id);
+        seatAvailabilityFeed.seatsChanged(id);
+        SeatMap seatMap = requireSeatMap(id);
+        return seatAssignment(id, seatInventoryService.claim(id, seatMap, labels));
+    }
+
+    public SeatAssignmentDTO releaseSelectedSeats(Long id, List<String> labels) {
+        log.info("Releasing seats {} for showtime id: {}", labels, id);
+        seatAvailabilityFeed.seatsChanged(id);
+        SeatMap seatMap = requireSeatMap(id);
+        return seatAssignment(id, seatInventoryService.release(id, seatMap, labels));
+    }
+
+    private SeatMap requireSeatMap(Long id) {
+        SeatMap seatMap = seatInventoryService.findSeatMap(id);
+        if (seatMap != null) {
+            return seatMap;
+        }
+        Showtime showtime = showtimeRepository.findById(id)
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found with id: " + id));
+        if (!seatInventoryService.hasSeatLayout(showtime)) {
+            throw new IllegalArgumentException("Showtime " + id + " does not have a seat layout");
+        }
+        return seatInventoryService.getSeatMap(showtime);
+    }
+
+    private SeatAssignmentDTO seatAssignment(Long id, List<String> seats) {
+        return SeatAssignmentDTO.builder()
+                .showtimeId(id)
+                .seats(seats)
+                .build();
+    }
+
+    private void validateSeatCount(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Number of seats must be at least 1");
+        }
+    }
+
+    private int writeLines(List<Showtime> showtimes, OutputStream out) throws IOException {
+        for (ShowtimeDTO dto : convertToDTOs(showtimes)) {
+            out.write(objectMapper.writeValueAsBytes(dto));
+            out.write('\n');
+        }
+        return showtimes.size();
+    }
+
     private ShowtimeDTO convertToDTO(Showtime showtime) {
-        String movieTitle = "Unknown Movie";
-        String theaterName = "Unknown Theater";
+        return convertToDTOs(List.of(showtime)).get(0);
+    }
 
-        try {
-            movieTitle = movieServiceClient.getMovieTitle(showtime.getMovieId());
-        } catch (Exception e) {
-            log.warn("Error fetching movie title for id {}: {}", showtime.getMovieId(), e.getMessage());
+    // Resolve titles and names once per distinct id, then join in memory
+    private List<ShowtimeDTO> convertToDTOs(List<Showtime> showtimes) {
+        if (showtimes.isEmpty()) {
+            return List.of();
         }
 
-        try {
-            theaterName = theaterServiceClient.getTheaterName(showtime.getTheaterId());
-        } catch (Exception e) {
-            log.warn("Error fetching theater info for id {}: {}", showtime.getTheaterId(), e.getMessage());
+        Set<Long> movieIds = new HashSet<>();
+        Set<Long> theaterIds = new HashSet<>();
+        for (Showtime showtime : showtimes) {
+            movieIds.add(showtime.getMovieId());
+            theaterIds.add(showtime.getTheaterId());
         }
 
+        Map<Long, String> movieTitles = catalogLookupService.getMovieTitles(movieIds);
+        Map<Long, String> theaterNames = catalogLookupService.getTheaterNames(theaterIds);
+
+        return showtimes.stream()
+                .map(showtime -> convertToDTO(showtime,
+                        movieTitles.getOrDefault(showtime.getMovieId(), "Unknown Movie"),
+                        theaterNames.getOrDefault(showtime.getTheaterId(), "Unknown Theater")))
+                .toList();
+    }
+
+    private ShowtimeDTO convertToDTO(Showtime showtime, String movieTitle, String theaterName) {
         return ShowtimeDTO.builder()
                 .id(showtime.getId())
                 .movieId(showtime.getMovieId())
@@ -164,9 +430,34 @@ public class ShowtimeService {
                 .theaterName(theaterName)
                 .showDateTime(showtime.getShowDateTime())
                 .ticketPrice(showtime.getTicketPrice())
-                .availableSeats(showtime.getAvailableSeats())
+                .availableSeats(availableSeats(showtime))
                 .createdAt(showtime.getCreatedAt())
                 .updatedAt(showtime.getUpdatedAt())
                 .build();
     }
+
+    // The in-memory seat map is ahead of the write-behind column
+    private Integer availableSeats(Showtime showtime) {
+        SeatMap seatMap = seatInventoryService.findSeatMap(showtime.getId());
+        return seatMap != null ? seatMap.available() : showtime.getAvailableSeats();
+    }
+
+    // Opaque page cursor: the sort key of the last row on the previous page
+    private record ShowtimeCursor(LocalDateTime showDateTime, Long id) {
+
+        String encode() {
+            String raw = showDateTime + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ShowtimeCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int split = raw.lastIndexOf('|');
+                return new ShowtimeCursor(LocalDateTime.parse(raw.substring(0, split)), Long.valueOf(raw.substring(split + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+            }
+        }
+    }
 }
\ No newline at end of file
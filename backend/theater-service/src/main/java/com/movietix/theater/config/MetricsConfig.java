@@ -0,0 +1,60 @@
+package com.movietix.theater.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Per-stage request latency: http.server.requests for the whole request,
+ * service.method for the {@code @Timed} services, spring.data.repository.invocations
+ * for each repository query and http.client.requests for each Feign call, all
+ * published as percentile histograms with bounded buckets.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> LATENCY_METERS = Set.of(
+            "http.server.requests", "service.method", "spring.data.repository.invocations", "http.client.requests");
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !LATENCY_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(30).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    // Feign tags every call with the peer address; with discovery that grows with every redeploy
+    @Bean
+    public MeterFilter feignPeerTagFilter() {
+        return MeterFilter.ignoreTags("net.peer.host", "net.peer.port");
+    }
+
+    // Feign URLs are templates, but cap them like Boot caps the uri tag in case one is not
+    @Bean
+    public MeterFilter feignUrlTagFilter() {
+        return MeterFilter.maximumAllowableTags("http.client.requests", "http.url", 100, MeterFilter.deny());
+    }
+}
\ No newline at end of file
@@ -39,21 +39,21 @@ public class AdminTheaterController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get theater by ID")
-    public ResponseEntity<TheaterResponse> getTheaterById(@PathVariable Long id) {
+    public ResponseEntity<TheaterResponse> getTheaterById(@PathVariable("id") Long id) {
         TheaterResponse theater = theaterService.getTheaterById(id);
         return ResponseEntity.ok(theater);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update theater")
-    public ResponseEntity<TheaterResponse> updateTheater(@PathVariable Long id, @Valid @RequestBody TheaterRequest request) {
+    public ResponseEntity<TheaterResponse> updateTheater(@PathVariable("id") Long id, @Valid @RequestBody TheaterRequest request) {
         TheaterResponse theater = theaterService.updateTheater(id, request);
         return ResponseEntity.ok(theater);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete theater")
-    public ResponseEntity<Void> deleteTheater(@PathVariable Long id) {
+    public ResponseEntity<Void> deleteTheater(@PathVariable("id") Long id) {
         theaterService.deleteTheater(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,26 @@
+package com.movietix.theater.controller;
+
+import com.movietix.theater.dto.TheaterSummary;
+import com.movietix.theater.service.TheaterService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+// Batch lookup for showtime-service; not routed through the gateway
+@RestController
+@RequestMapping("/api/internal/theaters")
+public class InternalTheaterController {
+
+    private final TheaterService theaterService;
+
+    public InternalTheaterController(TheaterService theaterService) {
+        this.theaterService = theaterService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TheaterSummary>> getTheaterSummaries(@RequestParam("ids") Set<Long> ids) {
+        return ResponseEntity.ok(theaterService.getTheaterSummaries(ids));
+    }
+}
\ No newline at end of file
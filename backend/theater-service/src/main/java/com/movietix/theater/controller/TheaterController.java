@@ -0,0 +1,29 @@
+package com.movietix.theater.controller;
+
+import com.movietix.theater.dto.TheaterResponse;
+import com.movietix.theater.service.TheaterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/theaters")
+@RequiredArgsConstructor
+@Tag(name = "Theaters", description = "Theater lookups")
+@SecurityRequirement(name = "bearerAuth")
+public class TheaterController {
+
+    private final TheaterService theaterService;
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get theater by ID")
+    public ResponseEntity<TheaterResponse> getTheaterById(@PathVariable("id") Long id) {
+        TheaterResponse theater = theaterService.getTheaterById(id);
+        return ResponseEntity.ok(theater);
+    }
+}
\ No newline at end of file
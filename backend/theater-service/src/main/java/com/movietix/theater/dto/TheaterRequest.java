@@ -23,4 +23,10 @@ public class TheaterRequest {
     @NotNull(message = "Seating capacity is required")
     @Positive(message = "Seating capacity must be positive")
     private Integer seatingCapacity;
+
+    @Positive(message = "Seat rows must be positive")
+    private Integer seatRows;
+
+    @Positive(message = "Seats per row must be positive")
+    private Integer seatsPerRow;
 }
\ No newline at end of file
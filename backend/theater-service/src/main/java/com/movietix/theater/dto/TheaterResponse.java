@@ -16,6 +16,8 @@ public class TheaterResponse {
     private String name;
     private String location;
     private Integer seatingCapacity;
+    private Integer seatRows;
+    private Integer seatsPerRow;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.movietix.theater.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Column projection served to other services
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TheaterSummary {
+    private Long id;
+    private String name;
+    private String location;
+    private Integer seatingCapacity;
+    private Integer seatRows;
+    private Integer seatsPerRow;
+}
\ No newline at end of file
@@ -32,6 +32,13 @@ public class Theater {
     @Column(name = "seating_capacity", nullable = false)
     private Integer seatingCapacity;
 
+    // Optional seat layout; when set, seatRows * seatsPerRow == seatingCapacity
+    @Column(name = "seat_rows")
+    private Integer seatRows;
+
+    @Column(name = "seats_per_row")
+    private Integer seatsPerRow;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
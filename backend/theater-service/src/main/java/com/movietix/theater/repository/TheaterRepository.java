@@ -1,9 +1,20 @@
 package com.movietix.theater.repository;
 
+import com.movietix.theater.dto.TheaterSummary;
 import com.movietix.theater.entity.Theater;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TheaterRepository extends JpaRepository<Theater, Long> {
+
+    // Only the columns other services need, without loading entities into the persistence context
+    @Query("SELECT new com.movietix.theater.dto.TheaterSummary(t.id, t.name, t.location, t.seatingCapacity, t.seatRows, t.seatsPerRow) "
+            + "FROM Theater t WHERE t.id IN :ids")
+    List<TheaterSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
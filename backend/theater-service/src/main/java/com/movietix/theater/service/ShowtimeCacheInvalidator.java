@@ -0,0 +1,38 @@
+package com.movietix.theater.service;
+
+import com.movietix.theater.client.ShowtimeServiceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Drops showtime-service's cached copy of a theater once the change is committed
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShowtimeCacheInvalidator {
+
+    private final ShowtimeServiceClient showtimeServiceClient;
+
+    public void theaterChanged(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        } else {
+            evict(id);
+        }
+    }
+
+    private void evict(Long id) {
+        try {
+            showtimeServiceClient.evictTheater(id);
+        } catch (Exception e) {
+            log.warn("Error invalidating showtime cache for theater id {}: {}", id, e.getMessage());
+        }
+    }
+}
\ No newline at end of file
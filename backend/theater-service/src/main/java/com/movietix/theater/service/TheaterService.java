@@ -2,32 +2,42 @@ package com.movietix.theater.service;
 
 import com.movietix.theater.dto.TheaterRequest;
 import com.movietix.theater.dto.TheaterResponse;
+import com.movietix.theater.dto.TheaterSummary;
 import com.movietix.theater.entity.Theater;
 import com.movietix.theater.exception.TheaterNotFoundException;
 import com.movietix.theater.repository.TheaterRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class TheaterService {
 
+    private static final int MAX_LOOKUP_IDS = 500;
+
     private final TheaterRepository theaterRepository;
+    private final ShowtimeCacheInvalidator showtimeCacheInvalidator;
 
     public TheaterResponse createTheater(TheaterRequest request) {
         log.info("Creating theater with name: {}", request.getName());
+        validateLayout(request);
         
         Theater theater = Theater.builder()
                 .name(request.getName())
                 .location(request.getLocation())
                 .seatingCapacity(request.getSeatingCapacity())
+                .seatRows(request.getSeatRows())
+                .seatsPerRow(request.getSeatsPerRow())
                 .build();
 
         Theater savedTheater = theaterRepository.save(theater);
@@ -55,6 +65,7 @@ public class TheaterService {
 
     public TheaterResponse updateTheater(Long id, TheaterRequest request) {
         log.info("Updating theater with ID: {}", id);
+        validateLayout(request);
         
         Theater theater = theaterRepository.findById(id)
                 .orElseThrow(() -> new TheaterNotFoundException("Theater not found with ID: " + id));
@@ -62,9 +73,12 @@ public class TheaterService {
         theater.setName(request.getName());
         theater.setLocation(request.getLocation());
         theater.setSeatingCapacity(request.getSeatingCapacity());
+        theater.setSeatRows(request.getSeatRows());
+        theater.setSeatsPerRow(request.getSeatsPerRow());
 
         Theater savedTheater = theaterRepository.save(theater);
         log.info("Theater updated successfully with ID: {}", savedTheater.getId());
+        showtimeCacheInvalidator.theaterChanged(savedTheater.getId());
         
         return mapToResponse(savedTheater);
     }
@@ -78,6 +92,29 @@ public class TheaterService {
 
         theaterRepository.deleteById(id);
         log.info("Theater deleted successfully with ID: {}", id);
+        showtimeCacheInvalidator.theaterChanged(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TheaterSummary> getTheaterSummaries(Collection<Long> ids) {
+        log.info("Fetching summaries for {} theaters", ids.size());
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_LOOKUP_IDS + " theater ids per request");
+        }
+        return ids.isEmpty() ? List.of() : theaterRepository.findSummariesByIdIn(ids);
+    }
+
+    private void validateLayout(TheaterRequest request) {
+        if (request.getSeatRows() == null && request.getSeatsPerRow() == null) {
+            return;
+        }
+        if (request.getSeatRows() == null || request.getSeatsPerRow() == null) {
+            throw new IllegalArgumentException("Seat rows and seats per row must be provided together");
+        }
+        if (request.getSeatRows() * request.getSeatsPerRow() != request.getSeatingCapacity()) {
+            throw new IllegalArgumentException("Seat layout " + request.getSeatRows() + "x" + request.getSeatsPerRow()
+                    + " does not match seating capacity " + request.getSeatingCapacity());
+        }
     }
 
     private TheaterResponse mapToResponse(Theater theater) {
@@ -86,6 +123,8 @@ public class TheaterService {
                 .name(theater.getName())
                 .location(theater.getLocation())
                 .seatingCapacity(theater.getSeatingCapacity())
+                .seatRows(theater.getSeatRows())
+                .seatsPerRow(theater.getSeatsPerRow())
                 .createdAt(theater.getCreatedAt())
                 .updatedAt(theater.getUpdatedAt())
                 .build();
@@ -34,14 +34,14 @@ public class AuthController {
 
     @PostMapping("/validate")
     @Operation(summary = "Validate JWT token", description = "Internal endpoint for API Gateway")
-    public ResponseEntity<Boolean> validateToken(@RequestParam String token) {
+    public ResponseEntity<Boolean> validateToken(@RequestParam("token") String token) {
         boolean isValid = userService.validateToken(token);
         return ResponseEntity.ok(isValid);
     }
 
     @GetMapping("/user")
     @Operation(summary = "Get user by token", description = "Internal endpoint for API Gateway")
-    public ResponseEntity<UserResponse> getUserByToken(@RequestParam String token) {
+    public ResponseEntity<UserResponse> getUserByToken(@RequestParam("token") String token) {
         UserResponse user = userService.getUserByToken(token);
         return ResponseEntity.ok(user);
     }
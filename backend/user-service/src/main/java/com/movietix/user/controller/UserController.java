@@ -29,7 +29,7 @@ public class UserController {
     @PostMapping("/admin/users/{userId}/make-admin")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Promote user to admin")
-    public ResponseEntity<UserResponse> promoteToAdmin(@PathVariable Long userId) {
+    public ResponseEntity<UserResponse> promoteToAdmin(@PathVariable("userId") Long userId) {
         UserResponse user = userService.promoteToAdmin(userId);
         return ResponseEntity.ok(user);
     }
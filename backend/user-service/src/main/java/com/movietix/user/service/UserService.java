@@ -6,6 +6,7 @@ import com.movietix.user.entity.User;
 import com.movietix.user.exception.UserAlreadyExistsException;
 import com.movietix.user.exception.UserNotFoundException;
 import com.movietix.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
@@ -57,6 +57,19 @@ export class ApiClient {
     return this.request<T>(endpoint, { method: "DELETE" })
   }
 
+  // Follows a keyset-paged endpoint (?cursor=) to its last page
+  static async getAllPages<T>(endpoint: string, size = 500): Promise<T[]> {
+    const items: T[] = []
+    let cursor: string | null = null
+    do {
+      const query: string = cursor ? `size=${size}&cursor=${encodeURIComponent(cursor)}` : `size=${size}`
+      const page: { items: T[]; nextCursor: string | null } = await this.get(`${endpoint}?${query}`)
+      items.push(...page.items)
+      cursor = page.nextCursor
+    } while (cursor)
+    return items
+  }
+
   // Customer endpoints
   static getMovies(): Promise<Movie[]> {
     return this.get<Movie[]>("/api/movies")
@@ -164,7 +177,7 @@ export class ApiClient {
 
   // Admin endpoints - Showtimes
   static getAdminShowtimes(): Promise<Showtime[]> {
-    return this.get<Showtime[]>("/api/admin/showtimes").catch((error) => {
+    return this.getAllPages<Showtime>("/api/showtimes/page").catch((error) => {
       console.warn("Showtime admin service unavailable:", error.message)
       // Return empty array when service is unavailable
       return []
@@ -191,7 +204,7 @@ export class ApiClient {
 
   // Admin endpoints - Bookings
   static getAdminBookings(): Promise<Booking[]> {
-    return this.get<Booking[]>("/api/admin/bookings")
+    return this.getAllPages<Booking>("/api/admin/bookings/page")
   }
 
   static getAdminBookingsByUser(userId: number): Promise<Booking[]> {